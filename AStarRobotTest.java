@@ -0,0 +1,49 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Scanner;
+
+import model.AStarRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.AStarRobot} class.
+ * Tests that the robot plans and walks shortest paths through mazes.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class AStarRobotTest {
+
+    /**
+     * Test if the robot plans a path as short as the breadth first robot
+     * in a multitude of random mazes with one or more goals.
+     */
+    @Test
+    void shortestPathTest() {
+        Random random = new Random(12);
+
+        for (int i = 0 ; i < 100 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 40, 30, 33, 1 + i % 4);
+            MazeTestSupport.assertShortestPath(maze, new AStarRobot(maze).getPath());
+        }
+    }
+
+    /**
+     * Test if the robot walks to the goal and stays there.
+     */
+    @Test
+    void walkPathTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S  * *\n* *   *\n*   *G*\n*******"));
+        AStarRobot robot = new AStarRobot(maze);
+
+        assertEquals(6, robot.moveUntilGoal(Long.MAX_VALUE));
+        assertTrue(robot.hasReachedGoal());
+        robot.move();
+        assertEquals(new Position(5, 3), robot.getPosition());
+    }
+}
@@ -0,0 +1,473 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Solves every maze file in a directory with one kind of robot, and writes
+ * a line of results for each maze as soon as it has been solved.
+ *
+ * The directory is walked lazily. A few loader threads load the files and
+ * hand the mazes to the solver threads through a bounded queue, so only a
+ * small number of mazes are held in memory at a time, however many files
+ * there are. Each result line holds the file, the size of the maze, the
+ * steps the robot moved, how the walk ended and how long it took, written
+ * as CSV or as one JSON object per line. Files that can not be loaded are
+ * reported with the outcome {@link SimulationResult.Outcome#FAILED}.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class BatchSolver
+{
+    /**
+     * The format of the result lines.
+     */
+    public enum Format
+    {
+        /** Comma separated values, with a header line first. */
+        CSV,
+        /** One JSON object per line. */
+        JSON_LINES
+    }
+
+    /**
+     * Reads a maze from a file, such as {@link Maze#load(Path)} or
+     * {@link Maze#loadBinary(Path)}.
+     */
+    @FunctionalInterface
+    public interface MazeReader
+    {
+        /**
+         * Reads the maze in the file at the given {@code path}.
+         *
+         * @param path the path to the maze file.
+         * @return the loaded maze.
+         * @throws IOException if the file can not be read.
+         */
+        Maze read(Path path) throws IOException;
+    }
+
+    private static final String CSV_HEADER = "file,columns,rows,steps,outcome,nanos,error\n";
+
+    /*
+     * Put in the queue once for every solver thread when all files are loaded.
+     */
+    private static final Job POISON_PILL = new Job(null, null, null, 0);
+
+    /*
+     * How long a loader waits for room in the queue before it checks again that
+     * there are solver threads left to make room.
+     */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    private final Function<Maze, ? extends Robot> robot;
+    private final long maxSteps;
+    private final MazeReader reader;
+    private final int loaders;
+    private final int solvers;
+    private final int queueCapacity;
+
+    /**
+     * Constructs a solver that walks every maze with a robot from {@code robot},
+     * with two loader threads, a solver thread per processor and room for four
+     * loaded mazes per solver thread.
+     *
+     * @param robot the factory creating a robot at the start of a maze.
+     * @param maxSteps the largest number of steps a robot may move.
+     */
+    public BatchSolver(Function<Maze, ? extends Robot> robot, long maxSteps)
+    {
+        this(robot, maxSteps, 2, Runtime.getRuntime().availableProcessors(),
+             4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a solver that walks every maze with a robot from {@code robot},
+     * loading the files with {@link Maze#load(Path)}.
+     *
+     * @param robot the factory creating a robot at the start of a maze.
+     * @param maxSteps the largest number of steps a robot may move.
+     * @param loaders the number of threads loading maze files.
+     * @param solvers the number of threads solving loaded mazes.
+     * @param queueCapacity the largest number of loaded mazes waiting to be solved.
+     */
+    public BatchSolver(Function<Maze, ? extends Robot> robot, long maxSteps,
+                       int loaders, int solvers, int queueCapacity)
+    {
+        this(robot, maxSteps, Maze::load, loaders, solvers, queueCapacity);
+    }
+
+    /**
+     * Constructs a solver that walks every maze read by {@code reader} with a
+     * robot from {@code robot}.
+     *
+     * @param robot the factory creating a robot at the start of a maze.
+     * @param maxSteps the largest number of steps a robot may move.
+     * @param reader the reader loading the maze files.
+     * @param loaders the number of threads loading maze files.
+     * @param solvers the number of threads solving loaded mazes.
+     * @param queueCapacity the largest number of loaded mazes waiting to be solved.
+     */
+    public BatchSolver(Function<Maze, ? extends Robot> robot, long maxSteps, MazeReader reader,
+                       int loaders, int solvers, int queueCapacity)
+    {
+        if (maxSteps < 0 || loaders < 1 || solvers < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("maxSteps must not be negative, and loaders, "
+                + "solvers and queueCapacity must be positive.");
+        }
+
+        this.robot = robot;
+        this.maxSteps = maxSteps;
+        this.reader = reader;
+        this.loaders = loaders;
+        this.solvers = solvers;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Solves every regular file in the {@code directory} and its subdirectories,
+     * and writes a result line for each to {@code out} in the order the mazes are
+     * solved. A file that can not be loaded, or a robot that throws, even with an
+     * {@link Error}, is reported with the outcome
+     * {@link SimulationResult.Outcome#FAILED} and the batch goes on. The
+     * writer is flushed, but not closed, at the end.
+     *
+     * @param directory the directory of maze files.
+     * @param out the writer to write the result lines to.
+     * @param format the format of the result lines.
+     * @return the number of files that were processed.
+     * @throws IOException if the directory can not be walked or the results can not be written.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public long solve(Path directory, Writer out, Format format)
+        throws IOException, InterruptedException
+    {
+        BlockingQueue<Job> queue = new ArrayBlockingQueue<Job>(queueCapacity);
+        AtomicLong processed = new AtomicLong();
+        AtomicReference<IOException> failure = new AtomicReference<IOException>();
+        CountDownLatch loading = new CountDownLatch(loaders);
+        AtomicInteger running = new AtomicInteger(solvers);
+
+        if (format == Format.CSV) {
+            out.write(CSV_HEADER);
+        }
+
+        ExecutorService threads = Executors.newFixedThreadPool(loaders + solvers);
+        try (Stream<Path> files = Files.walk(directory)) {
+            Iterator<Path> paths = files.filter(Files::isRegularFile).iterator();
+
+            for (int i = 0 ; i < loaders ; i++) {
+                threads.execute(() -> {
+                    try {
+                        load(paths, directory, reader, queue, running, failure);
+                    } finally {
+                        loading.countDown();
+                    }
+                });
+            }
+            for (int i = 0 ; i < solvers ; i++) {
+                threads.execute(() -> {
+                    try {
+                        solveAll(queue, out, format, processed, failure);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, new IOException("A solver thread failed.", e));
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            }
+
+            loading.await();
+            for (int i = 0 ; i < solvers ; i++) {
+                if (!offer(queue, POISON_PILL, running)) {
+                    break;
+                }
+            }
+
+            threads.shutdown();
+            threads.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            threads.shutdownNow();
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        out.flush();
+
+        return processed.get();
+    }
+
+    /*
+     * Loads files from the shared iterator into the queue until there are no
+     * files left, or no solver threads are left to take them.
+     *
+     * @param paths - the files left to load, shared by all loader threads.
+     * @param directory - the directory the files are reported relative to.
+     * @param reader - the reader loading the maze files.
+     * @param queue - the queue of loaded mazes.
+     * @param running - the number of solver threads still taking mazes.
+     * @param failure - the first error that stops the batch.
+     */
+    private static void load(Iterator<Path> paths, Path directory, MazeReader reader,
+                             BlockingQueue<Job> queue, AtomicInteger running,
+                             AtomicReference<IOException> failure)
+    {
+        try {
+            while (true) {
+                Path path;
+                synchronized (paths) {
+                    if (failure.get() != null || !paths.hasNext()) {
+                        return;
+                    }
+                    path = paths.next();
+                }
+
+                String file = directory.relativize(path).toString();
+                long start = System.nanoTime();
+                Job job;
+                try {
+                    job = new Job(file, reader.read(path), null, 0);
+                } catch (Throwable e) {
+                    job = new Job(file, null, message(e), System.nanoTime() - start);
+                }
+
+                if (!offer(queue, job, running)) {
+                    failure.compareAndSet(null, new IOException("No solver threads are left."));
+                    return;
+                }
+            }
+        } catch (UncheckedIOException e) {
+            failure.compareAndSet(null, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Puts a job in the queue, waiting for room as long as there are solver
+     * threads left to make it.
+     *
+     * @param queue - the queue of loaded mazes.
+     * @param job - the job to put in the queue.
+     * @param running - the number of solver threads still taking mazes.
+     * @return true if the job was put in the queue; false if no solver threads are left.
+     * @throws InterruptedException - if the thread is interrupted while waiting.
+     */
+    private static boolean offer(BlockingQueue<Job> queue, Job job, AtomicInteger running)
+        throws InterruptedException
+    {
+        while (!queue.offer(job, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (running.get() == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /*
+     * Solves mazes from the queue and writes their results until a poison pill
+     * is taken. After the writer has failed the mazes are still taken from the
+     * queue, so the loaders are not blocked, but they are no longer solved.
+     *
+     * @param queue - the queue of loaded mazes.
+     * @param out - the writer to write the result lines to.
+     * @param format - the format of the result lines.
+     * @param processed - the number of files processed so far.
+     * @param failure - the first error that stops the batch.
+     */
+    private void solveAll(BlockingQueue<Job> queue, Writer out, Format format, AtomicLong processed,
+                          AtomicReference<IOException> failure)
+    {
+        try {
+            while (true) {
+                Job job = queue.take();
+                if (job == POISON_PILL) {
+                    return;
+                }
+                if (failure.get() != null) {
+                    continue;
+                }
+
+                String line = solve(job, format);
+                synchronized (out) {
+                    try {
+                        out.write(line);
+                        processed.incrementAndGet();
+                    } catch (IOException e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Walks the maze of a job with a new robot and formats the result line.
+     *
+     * @param job - the loaded maze, or the error that kept it from loading.
+     * @param format - the format of the result line.
+     * @return the result line, ending with a line separator.
+     */
+    private String solve(Job job, Format format)
+    {
+        if (job.maze == null) {
+            return format(format, job.file, 0, 0, 0, SimulationResult.Outcome.FAILED, job.nanos,
+                          job.error);
+        }
+
+        Maze maze = job.maze;
+        long start = System.nanoTime();
+        long steps = 0;
+        SimulationResult.Outcome outcome;
+        String error = null;
+
+        try {
+            Robot walker = robot.apply(maze);
+            steps = walker.moveUntilGoal(maxSteps);
+
+            if (walker.hasReachedGoal()) {
+                outcome = SimulationResult.Outcome.REACHED_GOAL;
+            } else if (steps < maxSteps) {
+                outcome = SimulationResult.Outcome.GAVE_UP;
+            } else {
+                outcome = SimulationResult.Outcome.STEP_LIMIT;
+            }
+        } catch (Throwable e) {
+            outcome = SimulationResult.Outcome.FAILED;
+            error = message(e);
+        }
+
+        return format(format, job.file, maze.getNumColumns(), maze.getNumRows(), steps, outcome,
+                      System.nanoTime() - start, error);
+    }
+
+    /*
+     * Formats one result line.
+     *
+     * @param format - the format of the line.
+     * @param file - the file of the maze, relative to the directory.
+     * @param columns - the number of columns in the maze.
+     * @param rows - the number of rows in the maze.
+     * @param steps - the number of steps the robot moved.
+     * @param outcome - how the walk ended.
+     * @param nanos - the time of the walk in nanoseconds.
+     * @param error - the error message, or null if there was no error.
+     * @return the result line, ending with a line separator.
+     */
+    private static String format(Format format, String file, int columns, int rows, long steps,
+                                 SimulationResult.Outcome outcome, long nanos, String error)
+    {
+        StringBuilder line = new StringBuilder();
+
+        if (format == Format.CSV) {
+            line.append(csv(file)).append(',').append(columns).append(',').append(rows)
+                .append(',').append(steps).append(',').append(outcome).append(',').append(nanos)
+                .append(',');
+            if (error != null) {
+                line.append(csv(error));
+            }
+        } else {
+            line.append("{\"file\":").append(json(file))
+                .append(",\"columns\":").append(columns)
+                .append(",\"rows\":").append(rows)
+                .append(",\"steps\":").append(steps)
+                .append(",\"outcome\":\"").append(outcome).append('"')
+                .append(",\"nanos\":").append(nanos)
+                .append(",\"error\":").append(error == null ? "null" : json(error))
+                .append('}');
+        }
+
+        return line.append('\n').toString();
+    }
+
+    /*
+     * Returns the message of an error, or the name of its class if it has none.
+     *
+     * @param e - the error.
+     * @return the message to report for the error.
+     */
+    private static String message(Throwable e)
+    {
+        return (e.getMessage() != null) ? e.getMessage() : e.getClass().getName();
+    }
+
+    /*
+     * Quotes a CSV field if it contains a comma, a quote or a line break.
+     *
+     * @param value - the field to quote.
+     * @return the field as it is written to the CSV line.
+     */
+    private static String csv(String value)
+    {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+            && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /*
+     * Quotes a string as a JSON string literal.
+     *
+     * @param value - the string to quote.
+     * @return the JSON string literal.
+     */
+    private static String json(String value)
+    {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+
+        for (int i = 0 ; i < value.length() ; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < 0x20) {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+
+        return literal.append('"').toString();
+    }
+
+    /*
+     * A loaded maze waiting to be solved, or the error that kept it from loading
+     * and the time spent trying.
+     */
+    private static final class Job
+    {
+        private final String file;
+        private final Maze maze;
+        private final String error;
+        private final long nanos;
+
+        private Job(String file, Maze maze, String error, long nanos)
+        {
+            this.file = file;
+            this.maze = maze;
+            this.error = error;
+            this.nanos = nanos;
+        }
+    }
+}
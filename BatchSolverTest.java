@@ -0,0 +1,226 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import model.BatchSolver;
+import model.BreadthFirstRobot;
+import model.Maze;
+
+/**
+ * JUnit test class for the {@link model.BatchSolver} class.
+ * Tests that every maze file in a directory is solved and reported.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class BatchSolverTest {
+
+    /**
+     * Test if every file in a directory and its subdirectories gets one CSV
+     * line with the size of the maze and the steps of the robot, and files
+     * that are not mazes are reported as failed.
+     */
+    @Test
+    void csvTest() throws IOException, InterruptedException {
+        Path directory = createMazes();
+
+        try {
+            StringWriter out = new StringWriter();
+            BatchSolver solver = new BatchSolver(BreadthFirstRobot::new, 1000, 2, 3, 1);
+
+            assertEquals(22, solver.solve(directory, out, BatchSolver.Format.CSV));
+
+            List<String> lines = Arrays.asList(out.toString().split("\n"));
+            assertEquals("file,columns,rows,steps,outcome,nanos,error", lines.get(0));
+            assertEquals(23, lines.size());
+
+            Map<String, String[]> rows = new HashMap<String, String[]>();
+            for (String line : lines.subList(1, lines.size())) {
+                String[] fields = line.split(",", -1);
+                assertEquals(7, fields.length);
+                rows.put(fields[0], fields);
+            }
+
+            for (int i = 0 ; i < 20 ; i++) {
+                String[] fields = rows.get("maze" + i + ".txt");
+                assertEquals(String.valueOf(3 + i), fields[1]);
+                assertEquals("3", fields[2]);
+                assertEquals(String.valueOf(i + 1), fields[3]);
+                assertEquals("REACHED_GOAL", fields[4]);
+                assertEquals("", fields[6]);
+            }
+            assertEquals("GAVE_UP", rows.get(Path.of("closed", "maze.txt").toString())[4]);
+            assertEquals("FAILED", rows.get("notes.txt")[4]);
+            assertTrue(rows.get("notes.txt")[6].contains("INNCORRECT FORMAT"));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Test if the results are written as one JSON object per line.
+     */
+    @Test
+    void jsonLinesTest() throws IOException, InterruptedException {
+        Path directory = createMazes();
+
+        try {
+            StringWriter out = new StringWriter();
+            BatchSolver solver = new BatchSolver(BreadthFirstRobot::new, 1000);
+
+            assertEquals(22, solver.solve(directory, out, BatchSolver.Format.JSON_LINES));
+
+            String[] lines = out.toString().split("\n");
+            assertEquals(22, lines.length);
+            for (String line : lines) {
+                assertTrue(line.startsWith("{\"file\":\"") && line.endsWith("}"));
+            }
+            assertTrue(out.toString().contains(
+                "{\"file\":\"maze2.txt\",\"columns\":5,\"rows\":3,\"steps\":3,"
+                + "\"outcome\":\"REACHED_GOAL\",\"nanos\":"));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Test if a robot that throws an error is reported as failed for every maze
+     * instead of stopping the batch, and failed loads report the time they took.
+     */
+    @Test
+    void robotErrorTest() throws IOException, InterruptedException {
+        Path directory = createMazes();
+
+        try {
+            StringWriter out = new StringWriter();
+            BatchSolver solver = new BatchSolver(maze -> {
+                throw new StackOverflowError();
+            }, 1000, 1, 2, 1);
+
+            assertEquals(22, solver.solve(directory, out, BatchSolver.Format.CSV));
+
+            String[] lines = out.toString().split("\n");
+            assertEquals(23, lines.length);
+            for (int i = 1 ; i < lines.length ; i++) {
+                String[] fields = lines[i].split(",", -1);
+                assertEquals("FAILED", fields[4]);
+                if (fields[0].equals("notes.txt")) {
+                    assertTrue(Long.parseLong(fields[5]) > 0);
+                } else {
+                    assertEquals("java.lang.StackOverflowError", fields[6]);
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Test if a file whose loading throws an error is reported as failed, and
+     * the files after it are still loaded and solved by the single loader.
+     */
+    @Test
+    void loadErrorTest() throws IOException, InterruptedException {
+        Path directory = createMazes();
+
+        try {
+            StringWriter out = new StringWriter();
+            BatchSolver solver = new BatchSolver(BreadthFirstRobot::new, 1000, path -> {
+                if (path.getFileName().toString().equals("maze3.txt")) {
+                    throw new OutOfMemoryError("huge maze");
+                }
+                return Maze.load(path);
+            }, 1, 2, 1);
+
+            assertEquals(22, solver.solve(directory, out, BatchSolver.Format.CSV));
+
+            String[] lines = out.toString().split("\n");
+            assertEquals(23, lines.length);
+            int reached = 0;
+            for (int i = 1 ; i < lines.length ; i++) {
+                String[] fields = lines[i].split(",", -1);
+                if (fields[0].equals("maze3.txt")) {
+                    assertEquals("FAILED", fields[4]);
+                    assertEquals("huge maze", fields[6]);
+                } else if (fields[4].equals("REACHED_GOAL")) {
+                    reached++;
+                }
+            }
+            assertEquals(19, reached);
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /**
+     * Test if the batch ends with an exception instead of waiting forever when
+     * every solver thread has died.
+     */
+    @Test
+    void solversDiedTest() throws IOException, InterruptedException {
+        Path directory = createMazes();
+
+        try {
+            Writer out = new StringWriter() {
+                @Override
+                public void write(String line) {
+                    if (!line.startsWith("file,")) {
+                        throw new OutOfMemoryError("writer");
+                    }
+                }
+            };
+            BatchSolver solver = new BatchSolver(BreadthFirstRobot::new, 1000, 1, 2, 1);
+
+            IOException e = assertThrows(IOException.class,
+                () -> solver.solve(directory, out, BatchSolver.Format.CSV));
+            assertTrue(e.getMessage().contains("solver thread"));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    /*
+     * Creates a directory with twenty corridor mazes, a maze in a subdirectory
+     * whose goal can not be reached, and a file that is not a maze.
+     */
+    private static Path createMazes() throws IOException {
+        Path directory = Files.createTempDirectory("mazes");
+
+        for (int i = 0 ; i < 20 ; i++) {
+            String wall = "*".repeat(i + 3);
+            Files.writeString(directory.resolve("maze" + i + ".txt"),
+                              wall + "\n*S" + " ".repeat(i) + "G\n" + wall + "\n");
+        }
+        Files.createDirectory(directory.resolve("closed"));
+        Files.writeString(directory.resolve("closed").resolve("maze.txt"),
+                          "*****\n*S* *\n*** *\n*G  *\n*****\n");
+        Files.writeString(directory.resolve("notes.txt"), "not a maze\n");
+
+        return directory;
+    }
+
+    /*
+     * Deletes the directory and everything in it.
+     */
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
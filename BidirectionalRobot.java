@@ -0,0 +1,160 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A class representing a Robot that finds a shortest route to the goal of
+ * a maze with one goal by searching breadth first from the start and from
+ * the goal at the same time, and then walks it.
+ *
+ * The two searches take turns expanding a whole level of their frontier,
+ * always the smaller one, and stop at the first level where they meet. Each
+ * search only has to reach about half way, so together they visit far fewer
+ * tiles than a search from the start alone. Mazes with several goals are
+ * searched from the start only, like {@link BreadthFirstRobot}.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class BidirectionalRobot extends PathRobot
+{
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, and plans a shortest path to the goal. If the goal can not be
+     * reached the robot stays at the start.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public BidirectionalRobot(Maze maze)
+    {
+        super(maze, search(maze));
+    }
+
+    /**
+     * Searches the maze from the start and the goal until the searches meet.
+     *
+     * @param maze the maze to search.
+     * @return the packed tile indices of a shortest path from the start to the goal.
+     */
+    static int[] search(Maze maze)
+    {
+        int[] goals = maze.goalIndices();
+        if (goals.length != 1) {
+            return BreadthFirstRobot.search(maze);
+        }
+
+        int cells = maze.getNumRows() * maze.getNumColumns();
+        int start = maze.startIndex();
+        int goal = goals[0];
+
+        int[] fromStart = new int[cells];
+        int[] fromGoal = new int[cells];
+        Arrays.fill(fromStart, -1);
+        Arrays.fill(fromGoal, -1);
+        fromStart[start] = start;
+        fromGoal[goal] = goal;
+
+        IntQueue startFrontier = new IntQueue(1024);
+        IntQueue goalFrontier = new IntQueue(1024);
+        startFrontier.add(start);
+        goalFrontier.add(goal);
+
+        int meeting = -1;
+        while (meeting < 0 && !startFrontier.isEmpty() && !goalFrontier.isEmpty()) {
+            if (startFrontier.size() <= goalFrontier.size()) {
+                meeting = expandLevel(maze, startFrontier, fromStart, fromGoal);
+            } else {
+                meeting = expandLevel(maze, goalFrontier, fromGoal, fromStart);
+            }
+        }
+
+        if (meeting < 0) {
+            return tracePath(fromStart, start, -1);
+        }
+
+        int[] toMeeting = tracePath(fromStart, start, meeting);
+        int length = toMeeting.length;
+        for (int tile = meeting ; tile != goal ; tile = fromGoal[tile]) {
+            length++;
+        }
+
+        int[] path = Arrays.copyOf(toMeeting, length);
+        for (int tile = meeting, i = toMeeting.length ; tile != goal ; i++) {
+            tile = fromGoal[tile];
+            path[i] = tile;
+        }
+
+        return path;
+    }
+
+    /*
+     * Expands every tile of one level of a frontier, stopping at the first tile
+     * that the other search has already reached.
+     *
+     * @param maze - the maze being searched.
+     * @param frontier - the frontier to expand, holding exactly one level.
+     * @param parent - the tile each tile was reached from by this search.
+     * @param other - the tile each tile was reached from by the other search.
+     * @return the packed tile index where the searches meet, or -1 if they did not.
+     */
+    private static int expandLevel(Maze maze, IntQueue frontier, int[] parent, int[] other)
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+
+        for (int level = frontier.size() ; level > 0 ; level--) {
+            int tile = frontier.poll();
+            int y = tile / columns;
+            int x = tile - y * columns;
+
+            int meeting = -1;
+            if (x + 1 < columns) {
+                meeting = visit(maze, frontier, parent, other, tile, tile + 1);
+            }
+            if (meeting < 0 && y > 0) {
+                meeting = visit(maze, frontier, parent, other, tile, tile - columns);
+            }
+            if (meeting < 0 && y + 1 < rows) {
+                meeting = visit(maze, frontier, parent, other, tile, tile + columns);
+            }
+            if (meeting < 0 && x > 0) {
+                meeting = visit(maze, frontier, parent, other, tile, tile - 1);
+            }
+
+            if (meeting >= 0) {
+                return meeting;
+            }
+        }
+
+        return -1;
+    }
+
+    /*
+     * Adds the neighbour to the frontier if it is walkable and not yet reached
+     * by this search.
+     *
+     * @param maze - the maze being searched.
+     * @param frontier - the tiles this search expands next.
+     * @param parent - the tile each tile was reached from by this search.
+     * @param other - the tile each tile was reached from by the other search.
+     * @param tile - the tile being expanded.
+     * @param neighbour - the neighbouring tile.
+     * @return the neighbour if the other search has reached it; -1 otherwise.
+     */
+    private static int visit(Maze maze, IntQueue frontier, int[] parent, int[] other,
+                             int tile, int neighbour)
+    {
+        if (parent[neighbour] >= 0 || maze.tile(neighbour) == Maze.WALL) {
+            return -1;
+        }
+
+        parent[neighbour] = tile;
+        if (other[neighbour] >= 0) {
+            return neighbour;
+        }
+        frontier.add(neighbour);
+
+        return -1;
+    }
+}
@@ -0,0 +1,53 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Scanner;
+
+import model.BidirectionalRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.BidirectionalRobot} class.
+ * Tests that the robot plans and walks shortest paths through mazes.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class BidirectionalRobotTest {
+
+    /**
+     * Test if the robot plans a path as short as the breadth first robot
+     * in a multitude of random single goal mazes.
+     */
+    @Test
+    void shortestPathTest() {
+        Random random = new Random(3);
+
+        for (int i = 0 ; i < 500 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 2 + random.nextInt(25),
+                                                   2 + random.nextInt(25), i % 45, 1);
+            MazeTestSupport.assertShortestPath(maze, new BidirectionalRobot(maze).getPath());
+        }
+    }
+
+    /**
+     * Test if the robot walks to the goal, also in a maze with several goals.
+     */
+    @Test
+    void walkPathTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S  * *\n* *   *\n*   *G*\n*******"));
+        BidirectionalRobot robot = new BidirectionalRobot(maze);
+
+        assertEquals(6, robot.moveUntilGoal(Long.MAX_VALUE));
+        assertTrue(robot.hasReachedGoal());
+
+        Maze goals = new Maze(new Scanner("*******\n*G  S G*\n*******"));
+        BidirectionalRobot nearest = new BidirectionalRobot(goals);
+        assertEquals(2, nearest.moveUntilGoal(Long.MAX_VALUE));
+        assertEquals(new Position(6, 1), nearest.getPosition());
+    }
+}
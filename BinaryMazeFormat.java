@@ -0,0 +1,218 @@
+package model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads and writes mazes in a compact binary format, and writes mazes back
+ * in the text format read by {@link Maze#Maze(java.util.Scanner)}.
+ *
+ * The binary format is, in big-endian order:
+ * <ul>
+ *      <li>The four bytes {@code "MAZB"} followed by the format version as an int.</li>
+ *      <li>The number of columns and the number of rows as ints.</li>
+ *      <li>The packed tile index {@code y * columns + x} of the start as an int.</li>
+ *      <li>The number of goals as an int, followed by their packed tile indices
+ *      in row major order.</li>
+ *      <li>One bit per tile in row major order, set if the tile is walkable,
+ *      with the first tile of every byte in its lowest bit.</li>
+ * </ul>
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class BinaryMazeFormat
+{
+    private static final int MAGIC = ('M' << 24) | ('A' << 16) | ('Z' << 8) | 'B';
+    private static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /* The bytes of the magic, version, dimensions, start and goal count. */
+    private static final int HEADER_SIZE = 6 * Integer.BYTES;
+
+    private BinaryMazeFormat()
+    {
+    }
+
+    /**
+     * Reads a maze stored in the binary format from the given {@code path}.
+     *
+     * @param path the path to the binary maze file.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not a valid binary maze.
+     */
+    static Maze read(Path path) throws IOException
+    {
+        long fileSize = Files.size(path);
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC) {
+                throw new RuntimeException("INNCORRECT FORMAT: Not a binary maze file.");
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new RuntimeException(
+                    "INNCORRECT FORMAT: Unsupported binary maze version " + version + ".");
+            }
+
+            int columns = in.readInt();
+            int rows = in.readInt();
+            if (columns < 0 || rows < 0) {
+                throw new RuntimeException("INNCORRECT FORMAT: Negative maze dimensions.");
+            }
+            long cellCount = (long) columns * rows;
+            if (cellCount > Integer.MAX_VALUE - 8) {
+                throw new RuntimeException("INNCORRECT FORMAT: Maze dimensions too large.");
+            }
+            int cells = (int) cellCount;
+
+            int start = in.readInt();
+            if (start < 0 || start >= cells) {
+                throw new RuntimeException("INNCORRECT FORMAT: Maze missing a start position.");
+            }
+
+            int goalCount = in.readInt();
+            if (goalCount <= 0 || goalCount > cells) {
+                throw new RuntimeException("INNCORRECT FORMAT: Maze missing a goal position.");
+            }
+            if (fileSize != HEADER_SIZE + (long) goalCount * Integer.BYTES + (cellCount + 7) / 8) {
+                throw new RuntimeException(
+                    "INNCORRECT FORMAT: File size does not match the maze dimensions.");
+            }
+            int[] goals = new int[goalCount];
+            for (int i = 0 ; i < goalCount ; i++) {
+                goals[i] = in.readInt();
+                if (goals[i] < 0 || goals[i] >= cells || (i > 0 && goals[i] <= goals[i - 1])) {
+                    throw new RuntimeException("INNCORRECT FORMAT: Invalid goal position.");
+                }
+            }
+
+            byte[] tiles = new byte[cells];
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int tile = 0;
+            while (tile < cells) {
+                int length = Math.min(buffer.length, (cells - tile + 7) >>> 3);
+                in.readFully(buffer, 0, length);
+
+                for (int i = 0 ; i < length ; i++) {
+                    int bits = buffer[i];
+                    int last = Math.min(8, cells - tile);
+                    for (int bit = 0 ; bit < last ; bit++) {
+                        tiles[tile++] = (byte) ((bits >>> bit) & 1);
+                    }
+                }
+            }
+
+            if (tiles[start] == Maze.WALL) {
+                throw new RuntimeException("INNCORRECT FORMAT: Start position is a wall.");
+            }
+            tiles[start] = Maze.START;
+            for (int goal : goals) {
+                if (tiles[goal] != Maze.OPEN) {
+                    throw new RuntimeException("INNCORRECT FORMAT: Invalid goal position.");
+                }
+                tiles[goal] = Maze.GOAL;
+            }
+
+            return new Maze(tiles, rows, columns,
+                            new Position(start % columns, start / columns), goals);
+        }
+    }
+
+    /**
+     * Writes the given {@code maze} to {@code path} in the binary format.
+     *
+     * @param maze the maze to write.
+     * @param path the path to write the maze to.
+     * @throws IOException if the file can not be written.
+     */
+    static void write(Maze maze, Path path) throws IOException
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+        int cells = rows * columns;
+        int[] goals = maze.goalIndices();
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(columns);
+            out.writeInt(rows);
+            out.writeInt(maze.getStart().getY() * columns + maze.getStart().getX());
+
+            out.writeInt(goals.length);
+            for (int goal : goals) {
+                out.writeInt(goal);
+            }
+
+            for (int tile = 0 ; tile < cells ; tile += 8) {
+                int bits = 0;
+                int last = Math.min(8, cells - tile);
+                for (int bit = 0 ; bit < last ; bit++) {
+                    if (maze.tile(tile + bit) != Maze.WALL) {
+                        bits |= 1 << bit;
+                    }
+                }
+                out.write(bits);
+            }
+        }
+    }
+
+    /**
+     * Writes the given {@code maze} to {@code path} in the text format, with
+     * one line per row. Every row is written with the full width of the maze.
+     *
+     * @param maze the maze to write.
+     * @param path the path to write the maze to.
+     * @throws IOException if the file can not be written.
+     */
+    static void writeText(Maze maze, Path path) throws IOException
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+        char[] line = new char[columns];
+
+        try (BufferedWriter out = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            for (int y = 0 ; y < rows ; y++) {
+                int offset = y * columns;
+
+                for (int x = 0 ; x < columns ; x++) {
+                    line[x] = toChar(maze.tile(offset + x));
+                }
+                out.write(line);
+                out.write('\n');
+            }
+        }
+    }
+
+    /*
+     * Converts a tile type to its character in the text format.
+     *
+     * @param tile - the tile type to convert.
+     * @return the character of the tile.
+     */
+    private static char toChar(byte tile)
+    {
+        switch (tile) {
+            case Maze.OPEN:
+                return ' ';
+            case Maze.START:
+                return 'S';
+            case Maze.GOAL:
+                return 'G';
+            default:
+                return '*';
+        }
+    }
+}
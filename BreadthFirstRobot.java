@@ -0,0 +1,92 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A class representing a Robot that finds a shortest route from the start
+ * to the nearest goal with a breadth first search, and then walks it.
+ *
+ * The search runs over the flat tile grid of the maze, with the frontier in
+ * a ring buffer of packed tile indices and the route kept as one parent link
+ * per tile, so it allocates nothing per visited tile.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class BreadthFirstRobot extends PathRobot
+{
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, and plans a shortest path to the nearest goal. If no goal can
+     * be reached the robot stays at the start.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public BreadthFirstRobot(Maze maze)
+    {
+        super(maze, search(maze));
+    }
+
+    /**
+     * Searches the maze breadth first from the start until a goal is found.
+     *
+     * @param maze the maze to search.
+     * @return the packed tile indices of a shortest path from the start to a goal.
+     */
+    static int[] search(Maze maze)
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+        int start = maze.startIndex();
+
+        int[] parent = new int[rows * columns];
+        Arrays.fill(parent, -1);
+        parent[start] = start;
+
+        IntQueue frontier = new IntQueue(1024);
+        frontier.add(start);
+
+        while (!frontier.isEmpty()) {
+            int tile = frontier.poll();
+            if (maze.tile(tile) == Maze.GOAL) {
+                return tracePath(parent, start, tile);
+            }
+
+            int y = tile / columns;
+            int x = tile - y * columns;
+
+            if (x + 1 < columns) {
+                visit(maze, parent, frontier, tile, tile + 1);
+            }
+            if (y > 0) {
+                visit(maze, parent, frontier, tile, tile - columns);
+            }
+            if (y + 1 < rows) {
+                visit(maze, parent, frontier, tile, tile + columns);
+            }
+            if (x > 0) {
+                visit(maze, parent, frontier, tile, tile - 1);
+            }
+        }
+
+        return tracePath(parent, start, -1);
+    }
+
+    /*
+     * Adds the neighbour to the frontier if it is walkable and not yet reached.
+     *
+     * @param maze - the maze being searched.
+     * @param parent - the tile each tile was reached from.
+     * @param frontier - the tiles to search next.
+     * @param tile - the tile being searched.
+     * @param neighbour - the neighbouring tile.
+     */
+    private static void visit(Maze maze, int[] parent, IntQueue frontier, int tile, int neighbour)
+    {
+        if (parent[neighbour] < 0 && maze.tile(neighbour) != Maze.WALL) {
+            parent[neighbour] = tile;
+            frontier.add(neighbour);
+        }
+    }
+}
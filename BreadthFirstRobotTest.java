@@ -0,0 +1,94 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Scanner;
+
+import model.BreadthFirstRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.BreadthFirstRobot} class.
+ * Tests that the robot plans and walks shortest paths through mazes.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class BreadthFirstRobotTest {
+
+    private static final String MAZE =
+        "*********\n" +
+        "*S      *\n" +
+        "* ***** *\n" +
+        "* *   * *\n" +
+        "*   *   *\n" +
+        "*** *****\n" +
+        "*G      *\n" +
+        "*********";
+
+    /**
+     * Test if the planned path starts at the start, ends at a goal, only
+     * moves between neighbouring walkable positions and has the shortest
+     * possible length.
+     */
+    @Test
+    void shortestPathTest() {
+        Maze maze = new Maze(new Scanner(MAZE));
+        BreadthFirstRobot robot = new BreadthFirstRobot(maze);
+        List<Position> path = robot.getPath();
+
+        assertEquals(9, path.size() - 1);
+        MazeTestSupport.assertWalk(maze, path);
+    }
+
+    /**
+     * Test if the robot walks its planned path one position per step and
+     * stops at the goal.
+     */
+    @Test
+    void walkPathTest() {
+        Maze maze = new Maze(new Scanner(MAZE));
+        BreadthFirstRobot robot = new BreadthFirstRobot(maze);
+        List<Position> path = robot.getPath();
+
+        for (int i = 0 ; i < path.size() ; i++) {
+            assertEquals(path.get(i), robot.getPosition());
+            robot.move();
+        }
+        assertTrue(robot.hasReachedGoal());
+        assertEquals(path.get(path.size() - 1), robot.getPosition());
+
+        BreadthFirstRobot bulk = new BreadthFirstRobot(maze);
+        assertEquals(path.size() - 1, bulk.moveUntilGoal(Long.MAX_VALUE));
+        assertTrue(bulk.hasReachedGoal());
+    }
+
+    /**
+     * Test if the robot heads for the nearest of several goals.
+     */
+    @Test
+    void nearestGoalTest() {
+        Maze maze = new Maze(new Scanner("*******\n*G  S G*\n*******"));
+        BreadthFirstRobot robot = new BreadthFirstRobot(maze);
+
+        robot.moveUntilGoal(Long.MAX_VALUE);
+        assertEquals(new Position(6, 1), robot.getPosition());
+    }
+
+    /**
+     * Test if the robot stays at the start when no goal can be reached.
+     */
+    @Test
+    void unreachableGoalTest() {
+        Maze maze = new Maze(new Scanner("*****\n*S* *\n*** *\n*G  *\n*****"));
+        BreadthFirstRobot robot = new BreadthFirstRobot(maze);
+
+        assertTrue(robot.getPath().isEmpty());
+        assertEquals(0, robot.moveUntilGoal(100));
+        robot.move();
+        assertEquals(maze.getStart(), robot.getPosition());
+    }
+}
@@ -0,0 +1,111 @@
+package model;
+
+/**
+ * Fills the dead ends of a maze with walls. A dead end is a walkable tile,
+ * other than the start or a goal, with at most one walkable neighbour. No
+ * route between the start and a goal passes through one, so filling it
+ * changes none of those routes, but it may turn its neighbour into a new
+ * dead end. Filling repeats from a work list until no dead ends are left,
+ * which removes every corridor and side branch that leads nowhere.
+ *
+ * Every tile is added to the work list at most once, so the whole maze is
+ * filled in time linear in its number of tiles.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class DeadEndFiller
+{
+    private DeadEndFiller()
+    {
+    }
+
+    /**
+     * Returns a copy of the {@code maze} with all dead ends filled with walls.
+     *
+     * @param maze the maze to fill.
+     * @return a new maze with the same size, start and goals, and no dead ends.
+     */
+    static Maze fill(Maze maze)
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+        int cells = rows * columns;
+
+        byte[] tiles = new byte[cells];
+        for (int tile = 0 ; tile < cells ; tile++) {
+            tiles[tile] = maze.tile(tile);
+        }
+
+        byte[] degrees = new byte[cells];
+        IntQueue deadEnds = new IntQueue(1024);
+        for (int tile = 0 ; tile < cells ; tile++) {
+            if (tiles[tile] == Maze.WALL) {
+                continue;
+            }
+
+            int y = tile / columns;
+            int x = tile - y * columns;
+            int degree = 0;
+            if (x + 1 < columns && tiles[tile + 1] != Maze.WALL) {
+                degree++;
+            }
+            if (y > 0 && tiles[tile - columns] != Maze.WALL) {
+                degree++;
+            }
+            if (y + 1 < rows && tiles[tile + columns] != Maze.WALL) {
+                degree++;
+            }
+            if (x > 0 && tiles[tile - 1] != Maze.WALL) {
+                degree++;
+            }
+
+            degrees[tile] = (byte) degree;
+            if (degree <= 1 && tiles[tile] == Maze.OPEN) {
+                deadEnds.add(tile);
+            }
+        }
+
+        while (!deadEnds.isEmpty()) {
+            int tile = deadEnds.poll();
+            int y = tile / columns;
+            int x = tile - y * columns;
+            tiles[tile] = Maze.WALL;
+
+            if (x + 1 < columns) {
+                release(tiles, degrees, deadEnds, tile + 1);
+            }
+            if (y > 0) {
+                release(tiles, degrees, deadEnds, tile - columns);
+            }
+            if (y + 1 < rows) {
+                release(tiles, degrees, deadEnds, tile + columns);
+            }
+            if (x > 0) {
+                release(tiles, degrees, deadEnds, tile - 1);
+            }
+        }
+
+        return new Maze(tiles, rows, columns, maze.getStart(), maze.goalIndices().clone());
+    }
+
+    /*
+     * Removes one walkable neighbour from the degree of the tile, and adds the tile
+     * to the dead ends if it has just become one.
+     *
+     * @param tiles - the tiles of the maze being filled.
+     * @param degrees - the number of walkable neighbours of each walkable tile.
+     * @param deadEnds - the dead ends waiting to be filled.
+     * @param tile - the tile whose neighbour was filled.
+     */
+    private static void release(byte[] tiles, byte[] degrees, IntQueue deadEnds, int tile)
+    {
+        if (tiles[tile] == Maze.WALL) {
+            return;
+        }
+
+        if (--degrees[tile] == 1 && tiles[tile] == Maze.OPEN) {
+            deadEnds.add(tile);
+        }
+    }
+}
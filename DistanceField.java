@@ -0,0 +1,80 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Computes the walking distance from every tile of a maze to its nearest
+ * goal, with one breadth first search that starts from all goals at once.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class DistanceField
+{
+    private DistanceField()
+    {
+    }
+
+    /**
+     * Computes the distance field of the {@code maze}.
+     *
+     * @param maze the maze to compute the distances in.
+     * @return the length of a shortest route from each tile to a goal, indexed by
+     *         packed tile index, or -1 for walls and tiles that can not reach a goal.
+     */
+    static int[] compute(Maze maze)
+    {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+
+        int[] distances = new int[rows * columns];
+        Arrays.fill(distances, -1);
+
+        int[] goals = maze.goalIndices();
+        IntQueue frontier = new IntQueue(Math.max(1024, goals.length));
+        for (int goal : goals) {
+            distances[goal] = 0;
+            frontier.add(goal);
+        }
+
+        while (!frontier.isEmpty()) {
+            int tile = frontier.poll();
+            int y = tile / columns;
+            int x = tile - y * columns;
+            int next = distances[tile] + 1;
+
+            if (x + 1 < columns) {
+                visit(maze, distances, frontier, tile + 1, next);
+            }
+            if (y > 0) {
+                visit(maze, distances, frontier, tile - columns, next);
+            }
+            if (y + 1 < rows) {
+                visit(maze, distances, frontier, tile + columns, next);
+            }
+            if (x > 0) {
+                visit(maze, distances, frontier, tile - 1, next);
+            }
+        }
+
+        return distances;
+    }
+
+    /*
+     * Records the distance of the tile and adds it to the frontier, if it is
+     * walkable and not yet reached.
+     *
+     * @param maze - the maze being searched.
+     * @param distances - the distances found so far.
+     * @param frontier - the tiles to expand next.
+     * @param tile - the tile that was reached.
+     * @param distance - the distance of the tile to the nearest goal.
+     */
+    private static void visit(Maze maze, int[] distances, IntQueue frontier, int tile, int distance)
+    {
+        if (distances[tile] < 0 && maze.tile(tile) != Maze.WALL) {
+            distances[tile] = distance;
+            frontier.add(tile);
+        }
+    }
+}
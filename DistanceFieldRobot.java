@@ -0,0 +1,158 @@
+package model;
+
+/**
+ * A class representing a Robot that walks a shortest route to the nearest
+ * goal by always stepping to a neighbour that is one step closer to a goal.
+ *
+ * The distances are read from the distance field cached by the maze, see
+ * {@link Maze#distanceToGoal(int, int)}, so the robot plans nothing of its
+ * own: every step costs constant time, and any number of robots started
+ * from different positions of the same maze share one search.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class DistanceFieldRobot implements Robot
+{
+    /*
+     * The directions are tried in the order East, North, South, West.
+     */
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    private int x;
+    private int y;
+
+    private final int[] distances;
+    private final int columns;
+    private final int rows;
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public DistanceFieldRobot(Maze maze)
+    {
+        this(maze, maze.getStart());
+    }
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the given
+     * {@code position}, which does not have to be the start.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @param position the position the robot starts at.
+     * @see Maze
+     */
+    public DistanceFieldRobot(Maze maze, Position position)
+    {
+        distances = maze.goalDistances();
+        columns = maze.getNumColumns();
+        rows = maze.getNumRows();
+
+        x = position.getX();
+        y = position.getY();
+    }
+
+    /**
+     * Moves the robot one step closer to the nearest goal. A robot at a goal,
+     * or at a position from which no goal can be reached, stays where it is.
+     */
+    public void move()
+    {
+        step();
+    }
+
+    /**
+     * Moves the robot up to {@code steps} steps closer to the nearest goal.
+     *
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public int move(int steps)
+    {
+        return (int) moveUntilGoal(steps);
+    }
+
+    /**
+     * Moves the robot until it reaches the goal, moving at most {@code maxSteps}
+     * steps. The robot stops at once if no goal can be reached.
+     *
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public long moveUntilGoal(long maxSteps)
+    {
+        long steps = 0;
+
+        while (steps < maxSteps && step()) {
+            steps++;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Returns the the robot's current position inside the maze.
+     *
+     * @return the robots current position.
+     */
+    public Position getPosition()
+    {
+        return new Position(x, y);
+    }
+
+    /**
+     * Checks if the robot has reach the end of the maze.
+     *
+     * @return true if the robot has reach the end of the maze; false otherwise.
+     */
+    public boolean hasReachedGoal()
+    {
+        return distance(x, y) == 0;
+    }
+
+    /*
+     * Moves the robot to the first neighbour that is one step closer to a goal.
+     *
+     * @return true if the robot moved; false if it is at a goal or can not reach one.
+     */
+    private boolean step()
+    {
+        int next = distance(x, y) - 1;
+        if (next < 0) {
+            return false;
+        }
+
+        for (int direction = 0 ; direction < 4 ; direction++) {
+            if (distance(x + DX[direction], y + DY[direction]) == next) {
+                x += DX[direction];
+                y += DY[direction];
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /*
+     * Returns the distance from (x, y) to the nearest goal.
+     *
+     * @param x - the x-coordinate of the tile.
+     * @param y - the y-coordinate of the tile.
+     * @return the distance to the nearest goal, or -1 if no goal can be reached.
+     */
+    private int distance(int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return -1;
+        }
+
+        return distances[y * columns + x];
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Scanner;
+
+import model.BreadthFirstRobot;
+import model.DistanceFieldRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.DistanceFieldRobot} class.
+ * Tests that the robot walks shortest routes to the nearest goal.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class DistanceFieldRobotTest {
+
+    /**
+     * Test if the robot reaches a goal in as many steps as the shortest path
+     * found by a breadth first search, moving one neighbouring tile per step.
+     */
+    @Test
+    void shortestRouteTest() {
+        Random random = new Random(17);
+
+        for (int i = 0 ; i < 200 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 25, 15, 35, 1);
+            int expected = new BreadthFirstRobot(maze).getPath().size() - 1;
+            DistanceFieldRobot robot = new DistanceFieldRobot(maze);
+
+            if (expected < 0) {
+                assertEquals(0, robot.moveUntilGoal(Long.MAX_VALUE));
+                assertEquals(maze.getStart(), robot.getPosition());
+                assertFalse(robot.hasReachedGoal());
+                continue;
+            }
+
+            for (int step = 0 ; step < expected ; step++) {
+                Position previous = robot.getPosition();
+                robot.move();
+                MazeTestSupport.assertStep(maze, previous, robot.getPosition());
+            }
+            assertTrue(robot.hasReachedGoal());
+            assertEquals(expected, new DistanceFieldRobot(maze).moveUntilGoal(Long.MAX_VALUE));
+        }
+    }
+
+    /**
+     * Test if robots started from other positions than the start walk to the
+     * nearest goal, and stay at the goal once they are there.
+     */
+    @Test
+    void otherStartTest() {
+        Maze maze = new Maze(new Scanner("*********\n*G  S  G*\n*********"));
+        DistanceFieldRobot robot = new DistanceFieldRobot(maze, new Position(6, 1));
+
+        assertEquals(1, robot.move(10));
+        assertEquals(new Position(7, 1), robot.getPosition());
+        assertTrue(robot.hasReachedGoal());
+
+        robot.move();
+        assertEquals(new Position(7, 1), robot.getPosition());
+
+        DistanceFieldRobot other = new DistanceFieldRobot(maze, new Position(2, 1));
+        assertEquals(1, other.moveUntilGoal(Long.MAX_VALUE));
+        assertEquals(new Position(1, 1), other.getPosition());
+    }
+}
@@ -0,0 +1,199 @@
+package model;
+
+/**
+ * A spatial index over the goal tiles of a maze that answers which goal is
+ * closest to a position, measured in Manhattan distance.
+ *
+ * The goals are kept as packed tile indices {@code y * columns + x} in row
+ * major order. When there are many goals they are also sorted into square
+ * buckets of the grid, and a query only visits the rings of buckets around
+ * the position that can still hold a closer goal.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class GoalIndex
+{
+    /*
+     * With this few goals a linear scan is faster than visiting buckets.
+     */
+    private static final int LINEAR_SCAN_LIMIT = 16;
+
+    private static final int BUCKET_SHIFT = 5;
+    private static final int BUCKET_SIZE = 1 << BUCKET_SHIFT;
+
+    private final int[] goals;
+    private final int columns;
+
+    private final int bucketColumns;
+    private final int bucketRows;
+
+    /*
+     * The goals of bucket b are found at bucketGoals[bucketStart[b]] up to,
+     * but not including, bucketGoals[bucketStart[b + 1]].
+     */
+    private final int[] bucketStart;
+    private final int[] bucketGoals;
+
+    /**
+     * Constructs an index over the given goals.
+     *
+     * @param goals the packed tile indices of the goals, in row major order.
+     * @param rows the number of rows in the maze.
+     * @param columns the number of columns in the maze.
+     */
+    GoalIndex(int[] goals, int rows, int columns)
+    {
+        this.goals = goals;
+        this.columns = columns;
+
+        if (goals.length <= LINEAR_SCAN_LIMIT) {
+            bucketColumns = 0;
+            bucketRows = 0;
+            bucketStart = null;
+            bucketGoals = null;
+            return;
+        }
+
+        bucketColumns = (columns + BUCKET_SIZE - 1) >> BUCKET_SHIFT;
+        bucketRows = (rows + BUCKET_SIZE - 1) >> BUCKET_SHIFT;
+        bucketStart = new int[bucketColumns * bucketRows + 1];
+        bucketGoals = new int[goals.length];
+
+        for (int goal : goals) {
+            bucketStart[bucketOf(goal) + 1]++;
+        }
+        for (int b = 0 ; b < bucketColumns * bucketRows ; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        int[] next = new int[bucketColumns * bucketRows];
+        for (int goal : goals) {
+            int bucket = bucketOf(goal);
+            bucketGoals[bucketStart[bucket] + next[bucket]++] = goal;
+        }
+    }
+
+    /**
+     * Returns the packed tile indices of all goals, in row major order.
+     *
+     * @return the goals of the maze. The array must not be modified.
+     */
+    int[] goals()
+    {
+        return goals;
+    }
+
+    /**
+     * Returns the goal closest to {@code (x, y)} in Manhattan distance. Goals
+     * at the same distance are broken in row major order.
+     *
+     * @param x the x-coordinate to search from.
+     * @param y the y-coordinate to search from.
+     * @return the packed tile index of the nearest goal, or -1 if there are no goals.
+     */
+    int nearest(int x, int y)
+    {
+        if (bucketStart == null) {
+            return nearestIn(goals, 0, goals.length, x, y, -1, Long.MAX_VALUE);
+        }
+
+        int bx = clamp(x >> BUCKET_SHIFT, bucketColumns);
+        int by = clamp(y >> BUCKET_SHIFT, bucketRows);
+        int maxRing = Math.max(bucketColumns, bucketRows);
+
+        int best = -1;
+        for (int ring = 0 ; ring <= maxRing ; ring++) {
+            if (best >= 0 && (long) (ring - 1) * BUCKET_SIZE + 1 > distance(best, x, y)) {
+                break;
+            }
+
+            int top = Math.max(0, by - ring);
+            int bottom = Math.min(bucketRows - 1, by + ring);
+            for (int j = top ; j <= bottom ; j++) {
+                int step = (j == by - ring || j == by + ring) ? 1 : 2 * ring;
+                for (int i = bx - ring ; i <= bx + ring ; i += step) {
+                    if (i < 0 || i >= bucketColumns) {
+                        continue;
+                    }
+
+                    int bucket = j * bucketColumns + i;
+                    long bestDistance = (best < 0) ? Long.MAX_VALUE : distance(best, x, y);
+                    best = nearestIn(bucketGoals, bucketStart[bucket], bucketStart[bucket + 1],
+                                     x, y, best, bestDistance);
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns the Manhattan distance from {@code (x, y)} to the packed tile index
+     * {@code goal}.
+     *
+     * @param goal the packed tile index of the goal.
+     * @param x the x-coordinate to measure from.
+     * @param y the y-coordinate to measure from.
+     * @return the Manhattan distance to the goal.
+     */
+    long distance(int goal, int x, int y)
+    {
+        return Math.abs((long) (goal % columns) - x) + Math.abs((long) (goal / columns) - y);
+    }
+
+    /*
+     * Finds the goal closest to (x, y) in a range of the given array, keeping the
+     * best goal found so far if no goal in the range is closer.
+     *
+     * @param candidates - the array holding the goals.
+     * @param from - the first index of the range.
+     * @param to - the index after the last index of the range.
+     * @param x - the x-coordinate to search from.
+     * @param y - the y-coordinate to search from.
+     * @param best - the best goal found so far, or -1.
+     * @param bestDistance - the distance to the best goal found so far.
+     * @return the closest goal.
+     */
+    private int nearestIn(int[] candidates, int from, int to, int x, int y,
+                          int best, long bestDistance)
+    {
+        for (int i = from ; i < to ; i++) {
+            int goal = candidates[i];
+            long distance = distance(goal, x, y);
+
+            if (distance < bestDistance || (distance == bestDistance && goal < best)) {
+                best = goal;
+                bestDistance = distance;
+            }
+        }
+
+        return best;
+    }
+
+    /*
+     * Returns the bucket that holds the given packed tile index.
+     *
+     * @param index - the packed tile index.
+     * @return the index of the bucket.
+     */
+    private int bucketOf(int index)
+    {
+        int x = index % columns;
+        int y = index / columns;
+
+        return (y >> BUCKET_SHIFT) * bucketColumns + (x >> BUCKET_SHIFT);
+    }
+
+    /*
+     * Clamps the given bucket coordinate to [0, limit).
+     *
+     * @param value - the bucket coordinate.
+     * @param limit - the number of buckets along the axis.
+     * @return the clamped coordinate.
+     */
+    private static int clamp(int value, int limit)
+    {
+        return Math.max(0, Math.min(limit - 1, value));
+    }
+}
@@ -0,0 +1,153 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of primitive {@code int} values, used where a list or
+ * stack of boxed integers would cost an object per element. Values are
+ * added and removed at the end, so the list can also be used as a stack.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class IntList
+{
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * Constructs an empty list with room for a few values.
+     */
+    IntList()
+    {
+        this(16);
+    }
+
+    /**
+     * Constructs an empty list with room for {@code capacity} values.
+     *
+     * @param capacity the number of values the list can hold before growing.
+     */
+    IntList(int capacity)
+    {
+        values = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Adds the {@code value} to the end of the list.
+     *
+     * @param value the value to add.
+     */
+    void add(int value)
+    {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, newCapacity(size + 1));
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Adds all values of the {@code other} list to the end of this list.
+     *
+     * @param other the list whose values to add.
+     */
+    void addAll(IntList other)
+    {
+        if (size + other.size > values.length) {
+            values = Arrays.copyOf(values, newCapacity(size + other.size));
+        }
+        System.arraycopy(other.values, 0, values, size, other.size);
+        size += other.size;
+    }
+
+    /**
+     * Removes and returns the last value of the list.
+     *
+     * @return the last value of the list.
+     * @throws IllegalStateException if the list is empty.
+     */
+    int pop()
+    {
+        if (size == 0) {
+            throw new IllegalStateException("The list is empty.");
+        }
+
+        return values[--size];
+    }
+
+    /**
+     * Returns the value at the given {@code index}.
+     *
+     * @param index the index of the value.
+     * @return the value at the index.
+     */
+    int get(int index)
+    {
+        return values[index];
+    }
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values in the list.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Checks if the list has no values.
+     *
+     * @return true if the list is empty; false otherwise.
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Removes all values from the list, keeping its capacity.
+     */
+    void clear()
+    {
+        size = 0;
+    }
+
+    /**
+     * Copies the values of the list, in order, into the {@code target} array.
+     *
+     * @param target the array to copy the values into.
+     * @param offset the index in the target to copy the first value to.
+     */
+    void copyTo(int[] target, int offset)
+    {
+        System.arraycopy(values, 0, target, offset, size);
+    }
+
+    /**
+     * Returns a new array holding the values of the list, in order.
+     *
+     * @return the values of the list.
+     */
+    int[] toArray()
+    {
+        return Arrays.copyOf(values, size);
+    }
+
+    /*
+     * Returns the capacity to grow to so that at least {@code required} values fit.
+     *
+     * @param required - the number of values that must fit.
+     * @return the new capacity.
+     */
+    private int newCapacity(int required)
+    {
+        if (required < 0 || required > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("The list is too large.");
+        }
+
+        long grown = (long) values.length + (values.length >> 1) + 1;
+        return (int) Math.min(Integer.MAX_VALUE - 8, Math.max(grown, required));
+    }
+}
@@ -0,0 +1,109 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of primitive {@code int} values ordered by {@code long}
+ * keys, stored in two parallel arrays so that no entry is boxed. The same
+ * value may be added several times, callers that lower the key of a value
+ * add it again and skip the outdated entries when they are removed.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class IntMinHeap
+{
+    private long[] keys;
+    private int[] values;
+    private int size = 0;
+
+    /**
+     * Constructs an empty heap with room for {@code capacity} entries.
+     *
+     * @param capacity the number of entries the heap can hold before growing.
+     */
+    IntMinHeap(int capacity)
+    {
+        keys = new long[Math.max(2, capacity)];
+        values = new int[keys.length];
+    }
+
+    /**
+     * Adds the {@code value} to the heap with the given {@code key}.
+     *
+     * @param key the key to order the value by.
+     * @param value the value to add.
+     */
+    void add(long key, int value)
+    {
+        if (size == keys.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, (long) size * 2);
+            if (capacity == size) {
+                throw new OutOfMemoryError("The heap is too large.");
+            }
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (keys[parent] <= key) {
+                break;
+            }
+            keys[i] = keys[parent];
+            values[i] = values[parent];
+            i = parent;
+        }
+        keys[i] = key;
+        values[i] = value;
+    }
+
+    /**
+     * Removes the value with the smallest key and returns it.
+     *
+     * @return the value with the smallest key.
+     * @throws IllegalStateException if the heap is empty.
+     */
+    int poll()
+    {
+        if (size == 0) {
+            throw new IllegalStateException("The heap is empty.");
+        }
+
+        int value = values[0];
+
+        size--;
+        long key = keys[size];
+        int moved = values[size];
+
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && keys[child + 1] < keys[child]) {
+                child++;
+            }
+            if (key <= keys[child]) {
+                break;
+            }
+            keys[i] = keys[child];
+            values[i] = values[child];
+            i = child;
+        }
+        keys[i] = key;
+        values[i] = moved;
+
+        return value;
+    }
+
+    /**
+     * Checks if the heap has no entries.
+     *
+     * @return true if the heap is empty; false otherwise.
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+}
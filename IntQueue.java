@@ -0,0 +1,97 @@
+package model;
+
+/**
+ * A first-in first-out queue of primitive {@code int} values stored in a
+ * ring buffer, used as the frontier of breadth first searches. The buffer
+ * doubles in size when it is full.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class IntQueue
+{
+    private int[] values;
+    private int head = 0;
+    private int size = 0;
+
+    /**
+     * Constructs an empty queue with room for at least {@code capacity} values.
+     *
+     * @param capacity the number of values the queue can hold before growing.
+     */
+    IntQueue(int capacity)
+    {
+        values = new int[Integer.highestOneBit(Math.max(2, capacity - 1)) << 1];
+    }
+
+    /**
+     * Adds the {@code value} to the back of the queue.
+     *
+     * @param value the value to add.
+     */
+    void add(int value)
+    {
+        if (size == values.length) {
+            grow();
+        }
+        values[(head + size) & (values.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * Removes and returns the value at the front of the queue.
+     *
+     * @return the value at the front of the queue.
+     * @throws IllegalStateException if the queue is empty.
+     */
+    int poll()
+    {
+        if (size == 0) {
+            throw new IllegalStateException("The queue is empty.");
+        }
+
+        int value = values[head];
+        head = (head + 1) & (values.length - 1);
+        size--;
+
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the queue.
+     *
+     * @return the number of values in the queue.
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Checks if the queue has no values.
+     *
+     * @return true if the queue is empty; false otherwise.
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /*
+     * Doubles the size of the ring buffer, moving the values to its start.
+     */
+    private void grow()
+    {
+        if (values.length >= 1 << 30) {
+            throw new OutOfMemoryError("The queue is too large.");
+        }
+
+        int[] grown = new int[values.length << 1];
+        int firstPart = values.length - head;
+        System.arraycopy(values, head, grown, 0, firstPart);
+        System.arraycopy(values, 0, grown, firstPart, head);
+
+        values = grown;
+        head = 0;
+    }
+}
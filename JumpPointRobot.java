@@ -0,0 +1,267 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * A class representing a Robot that finds a shortest route from the start
+ * to a goal with a Jump Point Search, and then walks it.
+ *
+ * Jump Point Search is an A* search that only stores the tiles where a
+ * shortest route may have to turn. Of all shortest routes through open
+ * space it only follows those that move horizontally first: horizontal
+ * moves may turn north or south at every tile, while vertical moves keep
+ * going straight until a wall beside them ends and forces a turn. The
+ * jumps between these tiles are scanned without touching the open set, so
+ * wide rooms cost a fraction of what a plain A* search spends on them.
+ * Every horizontal jump probes north and south from each tile it passes,
+ * so the results of the vertical scans are cached per tile, and each
+ * column is scanned at most once in each direction during a search.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class JumpPointRobot extends PathRobot
+{
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    /*
+     * Marks a tile whose vertical scan has not been cached yet.
+     */
+    private static final int UNKNOWN = -2;
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, and plans a shortest path to a goal. If no goal can be
+     * reached the robot stays at the start.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public JumpPointRobot(Maze maze)
+    {
+        super(maze, search(maze));
+    }
+
+    /**
+     * Searches the maze with Jump Point Search from the start until a goal is found.
+     *
+     * @param maze the maze to search.
+     * @return the packed tile indices of a shortest path from the start to a goal.
+     */
+    static int[] search(Maze maze)
+    {
+        int columns = maze.getNumColumns();
+        int cells = maze.getNumRows() * columns;
+        int start = maze.startIndex();
+
+        int[] cost = new int[cells];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        int[] parent = new int[cells];
+        long[] closed = new long[(cells + 63) >>> 6];
+
+        int[] north = new int[cells];
+        Arrays.fill(north, UNKNOWN);
+        int[] south = new int[cells];
+        Arrays.fill(south, UNKNOWN);
+
+        IntMinHeap open = new IntMinHeap(256);
+        cost[start] = 0;
+        parent[start] = start;
+        open.add(key(0, maze.goalDistance(start % columns, start / columns)), start);
+
+        while (!open.isEmpty()) {
+            int tile = open.poll();
+            if ((closed[tile >>> 6] & (1L << tile)) != 0) {
+                continue;
+            }
+            closed[tile >>> 6] |= 1L << tile;
+
+            if (maze.tile(tile) == Maze.GOAL) {
+                return expand(tracePath(parent, start, tile), columns);
+            }
+
+            int y = tile / columns;
+            int x = tile - y * columns;
+            int from = parent[tile];
+            int fromY = from / columns;
+            int fromX = from - fromY * columns;
+
+            for (int direction = 0 ; direction < 4 ; direction++) {
+                if (tile != start && !isSuccessorDirection(maze, x, y, fromX, fromY, direction)) {
+                    continue;
+                }
+
+                int jumpPoint;
+                if (DY[direction] == 0) {
+                    jumpPoint = jumpHorizontal(maze, x, y, DX[direction], north, south);
+                } else {
+                    jumpPoint = jumpVertical(maze, x, y, DY[direction],
+                                             DY[direction] < 0 ? north : south);
+                }
+                if (jumpPoint < 0 || (closed[jumpPoint >>> 6] & (1L << jumpPoint)) != 0) {
+                    continue;
+                }
+
+                int jumpY = jumpPoint / columns;
+                int jumpX = jumpPoint - jumpY * columns;
+                int nextCost = cost[tile] + Math.abs(jumpX - x) + Math.abs(jumpY - y);
+                if (nextCost < cost[jumpPoint]) {
+                    cost[jumpPoint] = nextCost;
+                    parent[jumpPoint] = tile;
+                    open.add(key(nextCost, maze.goalDistance(jumpX, jumpY)), jumpPoint);
+                }
+            }
+        }
+
+        return tracePath(parent, start, -1);
+    }
+
+    /*
+     * Checks if the search should continue from (x, y) in the given direction,
+     * when (x, y) was reached from the jump point (fromX, fromY). Horizontal
+     * arrivals continue ahead, north and south. Vertical arrivals continue ahead,
+     * and to a side only where the wall beside the previous tile has ended.
+     *
+     * @param maze - the maze being searched.
+     * @param x - the x-coordinate of the jump point.
+     * @param y - the y-coordinate of the jump point.
+     * @param fromX - the x-coordinate of the jump point it was reached from.
+     * @param fromY - the y-coordinate of the jump point it was reached from.
+     * @param direction - the direction to check.
+     * @return true if the search should continue in the direction; false otherwise.
+     */
+    private static boolean isSuccessorDirection(Maze maze, int x, int y, int fromX, int fromY,
+                                                int direction)
+    {
+        int dx = DX[direction];
+        int dy = DY[direction];
+
+        if (fromY == y) {
+            return dx != Integer.signum(fromX - x);
+        }
+
+        int arrivalY = Integer.signum(y - fromY);
+        if (dx == 0) {
+            return dy == arrivalY;
+        }
+
+        return maze.isMovable(x + dx, y) && !maze.isMovable(x + dx, y - arrivalY);
+    }
+
+    /*
+     * Moves horizontally from (x, y) until reaching a goal, or a tile from which a
+     * vertical jump finds a jump point.
+     *
+     * @param maze - the maze being searched.
+     * @param x - the x-coordinate to jump from.
+     * @param y - the y-coordinate to jump from.
+     * @param dx - the direction to jump in, 1 or -1.
+     * @param north - the cached results of vertical jumps to the north.
+     * @param south - the cached results of vertical jumps to the south.
+     * @return the packed tile index of the jump point, or -1 if a wall is reached first.
+     */
+    private static int jumpHorizontal(Maze maze, int x, int y, int dx, int[] north, int[] south)
+    {
+        int columns = maze.getNumColumns();
+
+        while (true) {
+            x += dx;
+            if (!maze.isMovable(x, y)) {
+                return -1;
+            }
+            if (maze.isGoal(x, y) || jumpVertical(maze, x, y, -1, north) >= 0
+                                  || jumpVertical(maze, x, y, 1, south) >= 0) {
+                return y * columns + x;
+            }
+        }
+    }
+
+    /*
+     * Moves vertically from (x, y) until reaching a goal, or a tile where a wall
+     * beside the previous tile ends and the route may have to turn. The scan
+     * stops early at a tile whose result is already cached, and the result is
+     * cached for every tile it passed.
+     *
+     * @param maze - the maze being searched.
+     * @param x - the x-coordinate to jump from.
+     * @param y - the y-coordinate to jump from.
+     * @param dy - the direction to jump in, 1 or -1.
+     * @param scans - the cached results of vertical jumps in the direction.
+     * @return the packed tile index of the jump point, or -1 if a wall is reached first.
+     */
+    private static int jumpVertical(Maze maze, int x, int y, int dy, int[] scans)
+    {
+        int columns = maze.getNumColumns();
+        int from = y * columns + x;
+        if (scans[from] != UNKNOWN) {
+            return scans[from];
+        }
+
+        int jumpPoint;
+        while (true) {
+            y += dy;
+            if (!maze.isMovable(x, y)) {
+                jumpPoint = -1;
+                break;
+            }
+            if (maze.isGoal(x, y)
+                || (maze.isMovable(x - 1, y) && !maze.isMovable(x - 1, y - dy))
+                || (maze.isMovable(x + 1, y) && !maze.isMovable(x + 1, y - dy))) {
+                jumpPoint = y * columns + x;
+                break;
+            }
+            if (scans[y * columns + x] != UNKNOWN) {
+                jumpPoint = scans[y * columns + x];
+                break;
+            }
+        }
+
+        for (int tile = from ; tile != y * columns + x ; tile += dy * columns) {
+            scans[tile] = jumpPoint;
+        }
+
+        return jumpPoint;
+    }
+
+    /*
+     * Expands a path of jump points into a path of neighbouring tiles, filling in
+     * the straight lines between the jump points.
+     *
+     * @param jumpPoints - the packed tile indices of the jump points on the path.
+     * @param columns - the number of columns in the maze.
+     * @return the packed tile indices of every tile on the path.
+     */
+    private static int[] expand(int[] jumpPoints, int columns)
+    {
+        IntList path = new IntList();
+        path.add(jumpPoints[0]);
+
+        for (int i = 1 ; i < jumpPoints.length ; i++) {
+            int from = jumpPoints[i - 1];
+            int to = jumpPoints[i];
+            int step = (from / columns == to / columns) ? Integer.signum(to - from)
+                                                         : Integer.signum(to - from) * columns;
+
+            for (int tile = from + step ; tile != to ; tile += step) {
+                path.add(tile);
+            }
+            path.add(to);
+        }
+
+        return path.toArray();
+    }
+
+    /*
+     * Returns the heap key of a jump point, ordering jump points by the estimated
+     * length of the route through them and then by the estimated distance left.
+     *
+     * @param cost - the length of the route from the start to the jump point.
+     * @param estimate - the estimated distance from the jump point to a goal.
+     * @return the heap key of the jump point.
+     */
+    private static long key(int cost, long estimate)
+    {
+        return ((cost + estimate) << 32) | estimate;
+    }
+}
@@ -0,0 +1,64 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+
+import model.JumpPointRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.JumpPointRobot} class.
+ * Tests that the robot plans and walks shortest paths through mazes.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class JumpPointRobotTest {
+
+    /**
+     * Test if the robot plans a path as short as the breadth first robot
+     * in a multitude of random mazes, from open rooms to dense mazes.
+     */
+    @Test
+    void shortestPathTest() {
+        Random random = new Random(21);
+
+        for (int i = 0 ; i < 500 ; i++) {
+            int wallPercent = new int[] {0, 5, 15, 30, 40}[i % 5];
+            Maze maze = MazeTestSupport.randomMaze(random, 3 + random.nextInt(30),
+                                                   3 + random.nextInt(30), wallPercent, 1 + i % 3);
+            MazeTestSupport.assertShortestPath(maze, new JumpPointRobot(maze).getPath());
+        }
+    }
+
+    /**
+     * Test if the robot finds its way around a wall splitting a room, and
+     * walks the path one position per step.
+     */
+    @Test
+    void walkAroundWallTest() {
+        String text =
+            "**********\n" +
+            "*        *\n" +
+            "*  S     *\n" +
+            "******** *\n" +
+            "*        *\n" +
+            "*  G     *\n" +
+            "**********";
+        Maze maze = new Maze(new Scanner(text));
+        JumpPointRobot robot = new JumpPointRobot(maze);
+        List<Position> path = robot.getPath();
+
+        assertEquals(13, path.size() - 1);
+        for (Position position : path) {
+            assertEquals(position, robot.getPosition());
+            robot.move();
+        }
+        assertTrue(robot.hasReachedGoal());
+    }
+}
@@ -0,0 +1,334 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A compact weighted graph of a maze, where the nodes are the tiles where a
+ * route can branch or end and the edges are the corridors between them.
+ *
+ * Every walkable tile with other than two walkable neighbours is a node, and
+ * so are the start and the goals. All other walkable tiles lie in corridors,
+ * which are stored as a single edge weighted with their length. Mazes built
+ * from long winding corridors have far fewer nodes than tiles, so searching
+ * the graph is much cheaper than searching the tiles.
+ *
+ * The nodes are kept sorted by their packed tile index {@code y * columns + x},
+ * so the id of a node is found with a binary search. The edges are stored in
+ * compressed sparse row form: the edges leaving node {@code n} are found at
+ * the indices from {@code offsets[n]} up to {@code offsets[n + 1]} of the
+ * target, weight and direction arrays.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class JunctionGraph
+{
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    private final Maze maze;
+    private final int columns;
+
+    private final int[] nodes;
+    private final long[] isNode;
+
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final byte[] directions;
+
+    /**
+     * Constructs the junction graph of the given {@code maze}.
+     *
+     * @param maze the maze to build the graph of.
+     */
+    public JunctionGraph(Maze maze)
+    {
+        this.maze = maze;
+        columns = maze.getNumColumns();
+
+        int cells = maze.getNumRows() * columns;
+        int start = maze.startIndex();
+        isNode = new long[(cells + 63) >>> 6];
+
+        IntList found = new IntList();
+        int edges = 0;
+        for (int tile = 0 ; tile < cells ; tile++) {
+            if (maze.tile(tile) == Maze.WALL) {
+                continue;
+            }
+
+            int degree = degree(tile);
+            if (degree != 2 || tile == start || maze.tile(tile) == Maze.GOAL) {
+                found.add(tile);
+                isNode[tile >>> 6] |= 1L << tile;
+                edges += degree;
+            }
+        }
+        nodes = found.toArray();
+
+        offsets = new int[nodes.length + 1];
+        targets = new int[edges];
+        weights = new int[edges];
+        directions = new byte[edges];
+
+        int edge = 0;
+        for (int node = 0 ; node < nodes.length ; node++) {
+            offsets[node] = edge;
+
+            for (int direction = 0 ; direction < 4 ; direction++) {
+                if (!isMovable(nodes[node], direction)) {
+                    continue;
+                }
+
+                int tile = nodes[node];
+                int heading = direction;
+                int length = 0;
+                while (true) {
+                    tile = neighbour(tile, heading);
+                    length++;
+                    if (isNode(tile)) {
+                        break;
+                    }
+                    heading = corridorDirection(tile, heading);
+                }
+
+                targets[edge] = Arrays.binarySearch(nodes, tile);
+                weights[edge] = length;
+                directions[edge] = (byte) direction;
+                edge++;
+            }
+        }
+        offsets[nodes.length] = edge;
+    }
+
+    /**
+     * Returns the number of nodes in the graph.
+     *
+     * @return the number of nodes in the graph.
+     */
+    public int getNodeCount()
+    {
+        return nodes.length;
+    }
+
+    /**
+     * Returns the number of edges in the graph. Every corridor is counted once
+     * from each of its ends.
+     *
+     * @return the number of edges in the graph.
+     */
+    public int getEdgeCount()
+    {
+        return targets.length;
+    }
+
+    /**
+     * Returns a shortest path from the start to a goal, found by searching the
+     * graph and then filling in the tiles of the corridors along the way.
+     *
+     * @return an unmodifiable list of the positions on the path, or an empty
+     *         list if no goal can be reached.
+     */
+    public List<Position> findPath()
+    {
+        int[] path = search();
+        if (maze.tile(path[path.length - 1]) != Maze.GOAL) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<Position> positions = new ArrayList<Position>(path.length);
+        for (int tile : path) {
+            positions.add(new Position(tile % columns, tile / columns));
+        }
+
+        return Collections.unmodifiableList(positions);
+    }
+
+    /**
+     * Searches the graph with A* from the start node until a goal node is found,
+     * guided by the Manhattan distance to the nearest goal.
+     *
+     * @return the packed tile indices of a shortest path from the start to a goal.
+     */
+    int[] search()
+    {
+        int start = Arrays.binarySearch(nodes, maze.startIndex());
+
+        int[] cost = new int[nodes.length];
+        Arrays.fill(cost, Integer.MAX_VALUE);
+        int[] parent = new int[nodes.length];
+        int[] parentEdge = new int[nodes.length];
+        long[] closed = new long[(nodes.length + 63) >>> 6];
+
+        IntMinHeap open = new IntMinHeap(256);
+        cost[start] = 0;
+        parent[start] = start;
+        parentEdge[start] = -1;
+        open.add(key(0, estimate(start)), start);
+
+        while (!open.isEmpty()) {
+            int node = open.poll();
+            if ((closed[node >>> 6] & (1L << node)) != 0) {
+                continue;
+            }
+            closed[node >>> 6] |= 1L << node;
+
+            if (maze.tile(nodes[node]) == Maze.GOAL) {
+                return expand(parent, parentEdge, start, node);
+            }
+
+            for (int edge = offsets[node] ; edge < offsets[node + 1] ; edge++) {
+                int next = targets[edge];
+                int nextCost = cost[node] + weights[edge];
+                if (nextCost < cost[next] && (closed[next >>> 6] & (1L << next)) == 0) {
+                    cost[next] = nextCost;
+                    parent[next] = node;
+                    parentEdge[next] = edge;
+                    open.add(key(nextCost, estimate(next)), next);
+                }
+            }
+        }
+
+        return new int[] {nodes[start]};
+    }
+
+    /*
+     * Expands the edges leading from the start node to the goal node into the
+     * tiles of the corridors they follow.
+     *
+     * @param parent - the node each node was reached from, the start is its own parent.
+     * @param parentEdge - the edge each node was reached through, -1 for the start.
+     * @param start - the id of the start node.
+     * @param goal - the id of the goal node.
+     * @return the packed tile indices of every tile on the path.
+     */
+    private int[] expand(int[] parent, int[] parentEdge, int start, int goal)
+    {
+        IntList route = new IntList();
+        for (int node = goal ; node != start ; node = parent[node]) {
+            route.add(node);
+        }
+
+        IntList path = new IntList();
+        path.add(nodes[start]);
+        while (!route.isEmpty()) {
+            int node = route.pop();
+            int edge = parentEdge[node];
+            int tile = nodes[parent[node]];
+            int heading = directions[edge];
+
+            for (int length = weights[edge] ; length > 0 ; length--) {
+                tile = neighbour(tile, heading);
+                path.add(tile);
+                if (length > 1) {
+                    heading = corridorDirection(tile, heading);
+                }
+            }
+        }
+
+        return path.toArray();
+    }
+
+    /*
+     * Returns the direction a corridor continues in from a corridor tile.
+     *
+     * @param tile - a walkable tile with exactly two walkable neighbours.
+     * @param heading - the direction the tile was entered in.
+     * @return the direction of the walkable neighbour that the tile was not entered from.
+     */
+    private int corridorDirection(int tile, int heading)
+    {
+        for (int direction = 0 ; direction < 4 ; direction++) {
+            if (direction != 3 - heading && isMovable(tile, direction)) {
+                return direction;
+            }
+        }
+
+        return 3 - heading;
+    }
+
+    /*
+     * Counts the walkable neighbours of a tile.
+     *
+     * @param tile - the packed tile index.
+     * @return the number of walkable neighbours of the tile.
+     */
+    private int degree(int tile)
+    {
+        int degree = 0;
+        for (int direction = 0 ; direction < 4 ; direction++) {
+            if (isMovable(tile, direction)) {
+                degree++;
+            }
+        }
+
+        return degree;
+    }
+
+    /*
+     * Checks if the neighbour of a tile in the given direction is walkable.
+     *
+     * @param tile - the packed tile index.
+     * @param direction - the direction of the neighbour.
+     * @return true if the neighbour is inside the maze and walkable; false otherwise.
+     */
+    private boolean isMovable(int tile, int direction)
+    {
+        int y = tile / columns;
+        int x = tile - y * columns;
+
+        return maze.isMovable(x + DX[direction], y + DY[direction]);
+    }
+
+    /*
+     * Returns the neighbour of a tile in the given direction.
+     *
+     * @param tile - the packed tile index.
+     * @param direction - the direction of the neighbour.
+     * @return the packed tile index of the neighbour.
+     */
+    private int neighbour(int tile, int direction)
+    {
+        return tile + DX[direction] + DY[direction] * columns;
+    }
+
+    /*
+     * Checks if a tile is a node of the graph.
+     *
+     * @param tile - the packed tile index.
+     * @return true if the tile is a node; false otherwise.
+     */
+    private boolean isNode(int tile)
+    {
+        return (isNode[tile >>> 6] & (1L << tile)) != 0;
+    }
+
+    /*
+     * Returns the Manhattan distance from a node to the nearest goal.
+     *
+     * @param node - the id of the node.
+     * @return the estimated distance from the node to a goal.
+     */
+    private long estimate(int node)
+    {
+        int tile = nodes[node];
+        return maze.goalDistance(tile % columns, tile / columns);
+    }
+
+    /*
+     * Returns the heap key of a node, ordering nodes by the estimated length of
+     * the route through them and then by the estimated distance left.
+     *
+     * @param cost - the length of the route from the start to the node.
+     * @param estimate - the estimated distance from the node to a goal.
+     * @return the heap key of the node.
+     */
+    private static long key(int cost, long estimate)
+    {
+        return ((cost + estimate) << 32) | estimate;
+    }
+}
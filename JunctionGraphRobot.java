@@ -0,0 +1,42 @@
+package model;
+
+/**
+ * A class representing a Robot that finds a shortest route to a goal by
+ * searching the {@link JunctionGraph} of the maze, and then walks it.
+ *
+ * Only the tiles where the route can branch are searched, and the corridors
+ * between them are filled in afterwards, so mazes made of long corridors are
+ * planned much faster than by a search over every tile.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class JunctionGraphRobot extends PathRobot
+{
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, and plans a shortest path to a goal. If no goal can be
+     * reached the robot stays at the start.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public JunctionGraphRobot(Maze maze)
+    {
+        this(maze, new JunctionGraph(maze));
+    }
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, and plans a shortest path to a goal with an already built
+     * {@code graph} of the maze.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @param graph the junction graph of the maze.
+     * @see Maze
+     */
+    public JunctionGraphRobot(Maze maze, JunctionGraph graph)
+    {
+        super(maze, graph.search());
+    }
+}
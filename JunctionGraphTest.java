@@ -0,0 +1,83 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Scanner;
+
+import model.JunctionGraph;
+import model.JunctionGraphRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.JunctionGraph} and
+ * {@link model.JunctionGraphRobot} classes. Tests that corridors are
+ * compressed into edges and that the paths found through the graph are
+ * shortest paths through the maze.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class JunctionGraphTest {
+
+    private static final String MAZE =
+        "*********\n" +
+        "*S      *\n" +
+        "* ***** *\n" +
+        "* *   * *\n" +
+        "*   *   *\n" +
+        "*** *****\n" +
+        "*G      *\n" +
+        "*********";
+
+    /**
+     * Test if the corridors of a maze are stored as single edges between the
+     * start, the goal, the junctions and the dead ends.
+     */
+    @Test
+    void compressCorridorsTest() {
+        JunctionGraph graph = new JunctionGraph(new Maze(new Scanner(MAZE)));
+
+        assertEquals(5, graph.getNodeCount());
+        assertEquals(10, graph.getEdgeCount());
+    }
+
+    /**
+     * Test if the path found through the graph starts at the start, ends at a
+     * goal, only moves between neighbouring walkable positions and is as short
+     * as the path found by a breadth first search.
+     */
+    @Test
+    void shortestPathTest() {
+        Random random = new Random(11);
+
+        for (int i = 0 ; i < 300 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 25, 15, 40, 2);
+            MazeTestSupport.assertShortestPath(maze, new JunctionGraph(maze).findPath());
+        }
+    }
+
+    /**
+     * Test if the robot walks the path found through the graph to the goal,
+     * and stays at the start when no goal can be reached.
+     */
+    @Test
+    void robotTest() {
+        Maze maze = new Maze(new Scanner(MAZE));
+        JunctionGraphRobot robot = new JunctionGraphRobot(maze);
+
+        assertEquals(9, robot.getPath().size() - 1);
+        assertEquals(9, robot.moveUntilGoal(Long.MAX_VALUE));
+        assertTrue(robot.hasReachedGoal());
+        assertEquals(new Position(1, 6), robot.getPosition());
+
+        Maze closed = new Maze(new Scanner("*****\n*S* *\n*** *\n*G  *\n*****"));
+        JunctionGraphRobot stuck = new JunctionGraphRobot(closed);
+
+        assertTrue(stuck.getPath().isEmpty());
+        assertEquals(0, stuck.moveUntilGoal(100));
+        assertEquals(closed.getStart(), stuck.getPosition());
+    }
+}
@@ -1,6 +1,11 @@
 package model;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 /**
  * Represents a maze object with start and goal position that can 
  * be checked for walkability. A maze is a two-dimensional grid of 
@@ -8,20 +13,40 @@ import java.util.Scanner;
  * program, a maze is represented by a file containing a grid of 
  * characters.
  *
+ * A maze is immutable once it has been constructed: every field is 
+ * final and nothing returned by its methods can change it. It can 
+ * therefore be shared by any number of threads without copying or 
+ * locking. The distance field behind {@link #distanceToGoal(int, int)} 
+ * is computed on first use and published through a volatile field.
+ *
  * @author Daniel Hylander
  * @since 2023-04-27
  */
-public class Maze
+public final class Maze
 {
-    private int rows = 0;
-    private int columns = 0;
+    static final byte WALL = 0;
+    static final byte OPEN = 1;
+    static final byte START = 2;
+    static final byte GOAL = 3;
+
+    private final int rows;
+    private final int columns;
 
-    private ArrayList<char[]> maze = new ArrayList<char[]>();
+    /*
+     * The tiles of the maze stored row by row in a single array, the tile at
+     * (x, y) is found at index y * columns + x. Rows shorter than the widest row
+     * are padded with walls.
+     */
+    private final byte[] tiles;
 
-    private Position start = null;
+    private final Position start;
+    private final GoalIndex goals;
 
-    private boolean foundStart = false;
-    private boolean foundGoal = false;
+    /*
+     * The distance from every tile to the nearest goal, computed on first use 
+     * by distanceToGoal() and shared by every later call.
+     */
+    private volatile int[] goalDistances;
 
     /**
      * Constructs an initalizes a maze from the given Scanner object.
@@ -39,14 +64,20 @@ public class Maze
      */
     public Maze(Scanner mazeFile) throws RuntimeException
     {
+        ArrayList<String> lines = new ArrayList<String>();
+        int rows = 0;
+        int columns = 0;
+        Position start = null;
+        boolean foundGoal = false;
+
         while (mazeFile.hasNextLine()) {
             String line = mazeFile.nextLine();
+            lines.add(line);
             
-            char[] array = new char[line.length()];
-            System.arraycopy(line.toCharArray(), 0, array, 0, line.length());
-            maze.add(array);
-            
-            findStartAndGoal(line, rows);
+            start = findStart(line, rows, start);
+            if (line.indexOf('G') >= 0) {
+                foundGoal = true;
+            }
             
             rows++;
             if (line.length() > columns) {
@@ -54,40 +85,214 @@ public class Maze
             }
         }
         
-        if (!foundStart) {
+        if (start == null) {
             throw new RuntimeException("INNCORRECT FORMAT: Maze missing a start position.");
         } else if (!foundGoal) {
             throw new RuntimeException("INNCORRECT FORMAT: Maze missing a goal position.");
         }
+
+        IntList goalList = new IntList();
+        byte[] tiles = new byte[cellCount(rows, columns)];
+        for (int y = 0 ; y < rows ; y++) {
+            String line = lines.get(y);
+            int offset = y * columns;
+
+            for (int x = 0 ; x < line.length() ; x++) {
+                tiles[offset + x] = toTile(line.charAt(x));
+                if (tiles[offset + x] == GOAL) {
+                    goalList.add(offset + x);
+                }
+            }
+        }
+
+        this.tiles = tiles;
+        this.rows = rows;
+        this.columns = columns;
+        this.start = start;
+        goals = new GoalIndex(goalList.toArray(), rows, columns);
+    }
+
+    /*
+     * Constructs a maze from already parsed and validated tiles.
+     * 
+     * @param tiles - the tiles of the maze stored row by row.
+     * @param rows - the number of rows in the maze.
+     * @param columns - the number of columns in the maze.
+     * @param start - the start position of the maze.
+     * @param goals - the packed tile indices of the goals, in row major order.
+     */
+    Maze(byte[] tiles, int rows, int columns, Position start, int[] goals)
+    {
+        this.tiles = tiles;
+        this.rows = rows;
+        this.columns = columns;
+        this.start = start;
+        this.goals = new GoalIndex(goals, rows, columns);
+    }
+
+    /**
+     * Loads a maze from the file at the given {@code path}. The file has the same 
+     * format as for {@link #Maze(Scanner)}, but it is memory mapped and parsed 
+     * directly into the maze, which is much faster for large files.
+     * 
+     * @param path the path to the file containing the maze.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not formatted correctly.
+     */
+    public static Maze load(Path path) throws IOException
+    {
+        return MazeLoader.load(path);
+    }
+
+    /**
+     * Loads a maze from the file at the given {@code path} like {@link #load(Path)}, 
+     * but splits the file into chunks at line boundaries that are parsed in parallel 
+     * on the common fork-join pool.
+     * 
+     * @param path the path to the file containing the maze.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not formatted correctly.
+     */
+    public static Maze loadParallel(Path path) throws IOException
+    {
+        return loadParallel(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Loads a maze from the file at the given {@code path} like {@link #load(Path)}, 
+     * but splits the file into chunks at line boundaries that are parsed in parallel 
+     * on the given {@code pool}.
+     * 
+     * @param path the path to the file containing the maze.
+     * @param pool the pool to parse the chunks on.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not formatted correctly.
+     */
+    public static Maze loadParallel(Path path, ForkJoinPool pool) throws IOException
+    {
+        return MazeLoader.load(path, pool);
+    }
+
+    /**
+     * Loads a maze from a file at the given {@code path} written by 
+     * {@link #writeBinary(Path)}.
+     * 
+     * @param path the path to the binary maze file.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not a valid binary maze.
+     */
+    public static Maze loadBinary(Path path) throws IOException
+    {
+        return BinaryMazeFormat.read(path);
+    }
+
+    /**
+     * Writes the maze to the given {@code path} in a compact binary format, with 
+     * the dimensions, start and goals in a header followed by one bit per tile. 
+     * Binary mazes load much faster than text mazes with {@link #loadBinary(Path)}.
+     * 
+     * @param path the path to write the maze to.
+     * @throws IOException if the file can not be written.
+     */
+    public void writeBinary(Path path) throws IOException
+    {
+        BinaryMazeFormat.write(this, path);
+    }
+
+    /**
+     * Writes the maze to the given {@code path} in the text format read by 
+     * {@link #Maze(Scanner)} and {@link #load(Path)}. Walls are written as '*' and 
+     * every row is padded with walls to the full width of the maze.
+     * 
+     * @param path the path to write the maze to.
+     * @throws IOException if the file can not be written.
+     */
+    public void writeText(Path path) throws IOException
+    {
+        BinaryMazeFormat.writeText(this, path);
+    }
+
+    /**
+     * Returns a copy of the maze where every dead end has been filled with walls. 
+     * A dead end is a walkable tile, other than the start or a goal, with at most 
+     * one walkable neighbour, and filling repeats until none are left. The copy 
+     * keeps every route between the start and the goals, so any robot can walk it 
+     * unchanged without wandering into corridors that lead nowhere.
+     * 
+     * @return a new maze without dead ends.
+     */
+    public Maze withoutDeadEnds()
+    {
+        return DeadEndFiller.fill(this);
+    }
+
+    /*
+     * Returns the number of tiles needed to store a maze with the given dimensions.
+     * 
+     * @param rows - the number of rows in the maze.
+     * @param columns - the number of columns in the maze.
+     * @return the number of tiles in the maze.
+     * @throws RuntimeException - if the maze is too large to be stored in a single array.
+     */
+    static int cellCount(int rows, int columns) throws RuntimeException
+    {
+        long cells = (long) rows * columns;
+        if (cells > Integer.MAX_VALUE - 8) {
+            throw new RuntimeException(
+                "Maze is too large: " + columns + "x" + rows + " tiles.");
+        }
+
+        return (int) cells;
+    }
+
+    /*
+     * Converts a character from the maze file to its tile type.
+     * 
+     * @param c - the character to convert.
+     * @return the tile type of the character.
+     */
+    static byte toTile(int c)
+    {
+        switch (c) {
+            case ' ':
+                return OPEN;
+            case 'S':
+                return START;
+            case 'G':
+                return GOAL;
+            default:
+                return WALL;
+        }
     }
     
     /*
-     * Finds the start and goal position in the given line and updates in accordingly.
+     * Finds the start position in the given line.
      * 
-     * @param line - the line to search for start and goal positions.
+     * @param line - the line to search for a start position.
      * @param y - the y index for the current line in the maze.
+     * @param start - the start position found on earlier lines, or null if none was found.
+     * @return the start position found so far, or null if none has been found.
      * @throws RuntimeException - if the maze contains multiple start positions or the file is 
      * not formatted correctly.
      */
-    private void findStartAndGoal(String line, int y) throws RuntimeException
+    private static Position findStart(String line, int y, Position start) throws RuntimeException
     { 
         for (int x = 0 ; x < line.length() ; x++) {
-            char c = line.charAt(x);
-
-            if (c == 'S') {
-                if (foundStart) {
+            if (line.charAt(x) == 'S') {
+                if (start != null) {
                     throw new RuntimeException(
                         "INNCORRECT FORMAT: Maze contains multiple start positions.");
                 }
 
                 start = new Position(x, y);
-                foundStart = true;
-            }
-    
-            if (c == 'G') {
-                foundGoal = true;
             }
         }
+
+        return start;
     }
 
     /**
@@ -99,12 +304,21 @@ public class Maze
      */
     public boolean isMovable(Position position)
     {
-        try {
-            char tile = maze.get(position.getY())[position.getX()];
-            return (tile == ' ' || tile == 'G' || tile == 'S');
-        } catch (IndexOutOfBoundsException e) {
-            return false;
-        }
+        return tileAt(position.getX(), position.getY()) != WALL;
+    }
+
+    /**
+     * Checks if the tile at {@code (x, y)} is walkable, which means it is either a 
+     * traversable tile or goal. Unlike {@link #isMovable(Position)} this does not 
+     * need a Position object.
+     * 
+     * @param x the x-coordinate of the tile.
+     * @param y the y-coordinate of the tile.
+     * @return true if the tile is walkable; false otherwise.
+     */
+    public boolean isMovable(int x, int y)
+    {
+        return tileAt(x, y) != WALL;
     }
 
     /**
@@ -115,12 +329,167 @@ public class Maze
      */
     public boolean isGoal(Position position)
     {
-        try {
-            char tile = maze.get(position.getY())[position.getX()];
-            return (tile == 'G');
-        } catch (IndexOutOfBoundsException e) {
-            return false;
+        return tileAt(position.getX(), position.getY()) == GOAL;
+    }
+
+    /**
+     * Checks if the tile at {@code (x, y)} is a goal. Unlike {@link #isGoal(Position)} 
+     * this does not need a Position object.
+     * 
+     * @param x the x-coordinate of the tile.
+     * @param y the y-coordinate of the tile.
+     * @return true if the tile is a goal; false otherwise.
+     */
+    public boolean isGoal(int x, int y)
+    {
+        return tileAt(x, y) == GOAL;
+    }
+
+    /*
+     * Returns the tile at the given packed tile index y * columns + x.
+     * 
+     * @param index - the packed tile index, inside the maze.
+     * @return the tile at the index.
+     */
+    byte tile(int index)
+    {
+        return tiles[index];
+    }
+
+    /*
+     * Returns the packed tile index y * columns + x of the start position.
+     * 
+     * @return the packed tile index of the start.
+     */
+    int startIndex()
+    {
+        return start.getY() * columns + start.getX();
+    }
+
+    /*
+     * Returns the packed tile indices of all goals in row major order. The 
+     * returned array must not be modified.
+     * 
+     * @return the packed tile indices of the goals.
+     */
+    int[] goalIndices()
+    {
+        return goals.goals();
+    }
+
+    /*
+     * Returns the Manhattan distance from (x, y) to the nearest goal, ignoring walls.
+     * 
+     * @param x - the x-coordinate to measure from.
+     * @param y - the y-coordinate to measure from.
+     * @return the distance to the nearest goal.
+     */
+    long goalDistance(int x, int y)
+    {
+        return goals.distance(goals.nearest(x, y), x, y);
+    }
+
+    /*
+     * Returns the tile at the given coordinates, positions outside of the maze 
+     * are treated as walls.
+     * 
+     * @param x - the x-coordinate of the tile.
+     * @param y - the y-coordinate of the tile.
+     * @return the tile at the given coordinates.
+     */
+    private byte tileAt(int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return WALL;
+        }
+
+        return tiles[y * columns + x];
+    }
+
+    /**
+     * Returns the positions of all goals in the maze, in row major order.
+     * 
+     * @return an unmodifiable list of the goal positions.
+     */
+    public List<Position> getGoals()
+    {
+        int[] indices = goals.goals();
+        ArrayList<Position> positions = new ArrayList<Position>(indices.length);
+
+        for (int index : indices) {
+            positions.add(new Position(index % columns, index / columns));
         }
+
+        return Collections.unmodifiableList(positions);
+    }
+
+    /**
+     * Returns the goal closest to the given {@code position}, measured in Manhattan 
+     * distance and ignoring walls. Goals at the same distance are broken in row major 
+     * order.
+     * 
+     * @param position the position to search from.
+     * @return the position of the nearest goal.
+     */
+    public Position nearestGoal(Position position)
+    {
+        int index = goals.nearest(position.getX(), position.getY());
+
+        return new Position(index % columns, index / columns);
+    }
+
+    /**
+     * Returns the length of a shortest route from the given {@code position} to 
+     * the nearest goal, walking around walls. The distances to every tile are 
+     * computed by one search from all goals the first time this is called, and 
+     * every later call reads them in constant time, so the same maze can be 
+     * solved from many positions cheaply.
+     * 
+     * @param position the position to measure from.
+     * @return the distance to the nearest goal, or -1 if the position is a wall 
+     *         or no goal can be reached from it.
+     */
+    public int distanceToGoal(Position position)
+    {
+        return distanceToGoal(position.getX(), position.getY());
+    }
+
+    /**
+     * Returns the length of a shortest route from the tile at {@code (x, y)} to 
+     * the nearest goal, walking around walls. Unlike {@link #distanceToGoal(Position)} 
+     * this does not need a Position object.
+     * 
+     * @param x the x-coordinate of the tile.
+     * @param y the y-coordinate of the tile.
+     * @return the distance to the nearest goal, or -1 if the tile is a wall, outside 
+     *         the maze or no goal can be reached from it.
+     */
+    public int distanceToGoal(int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return -1;
+        }
+
+        return goalDistances()[y * columns + x];
+    }
+
+    /*
+     * Returns the distance from every tile to the nearest goal, indexed by packed 
+     * tile index, computing it on first use. Two threads may both compute it the 
+     * first time, but they compute the same distances. The returned array must 
+     * not be modified.
+     * 
+     * @return the distances to the nearest goal, -1 where no goal can be reached.
+     */
+    int[] goalDistances()
+    {
+        int[] distances = goalDistances;
+        if (distances == null) {
+            distances = DistanceField.compute(this);
+            goalDistances = distances;
+        }
+
+        return distances;
     }
 
     /**
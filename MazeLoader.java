@@ -0,0 +1,388 @@
+package model;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Loads mazes from files by memory mapping them and parsing the bytes
+ * directly into the tile grid of a {@link Maze}, without decoding the
+ * file into strings first.
+ *
+ * Lines may be terminated by {@code "\n"}, {@code "\r\n"} or {@code "\r"},
+ * the same line separators as {@link java.util.Scanner#nextLine()} accepts
+ * for these files. Every byte is read as one tile.
+ *
+ * The file can be split into chunks at line boundaries that are measured
+ * and parsed in parallel on a fork-join pool. The results of the chunks are
+ * merged in file order, so a maze loads the same way and fails with the same
+ * error messages no matter how many chunks it is split into.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class MazeLoader
+{
+    /*
+     * The largest region mapped at once, files larger than this are mapped
+     * as several consecutive segments.
+     */
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    /*
+     * Files are not split into chunks smaller than this when loaded in parallel.
+     */
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+
+    private MazeLoader()
+    {
+    }
+
+    /**
+     * Loads the maze stored in the file at the given {@code path} on the
+     * calling thread.
+     *
+     * @param path the path to the maze file.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not formatted correctly.
+     */
+    static Maze load(Path path) throws IOException
+    {
+        return load(path, null);
+    }
+
+    /**
+     * Loads the maze stored in the file at the given {@code path}, parsing
+     * chunks of the file in parallel on the given {@code pool}.
+     *
+     * @param path the path to the maze file.
+     * @param pool the pool to parse on, or null to parse on the calling thread.
+     * @return the loaded maze.
+     * @throws IOException if the file can not be read.
+     * @throws RuntimeException if the file is not formatted correctly.
+     */
+    static Maze load(Path path, ForkJoinPool pool) throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer[] segments = map(channel);
+            long size = channel.size();
+
+            long[] bounds = (pool == null)
+                ? new long[] {0, size}
+                : split(segments, size, pool.getParallelism());
+            Chunk[] chunks = new Chunk[bounds.length - 1];
+            for (int i = 0 ; i < chunks.length ; i++) {
+                chunks[i] = new Chunk(bounds[i], bounds[i + 1]);
+            }
+
+            forEachChunk(pool, chunks.length, i -> chunks[i].measure(segments));
+
+            long rows = 0;
+            long columns = 0;
+            for (Chunk chunk : chunks) {
+                chunk.firstRow = rows;
+                rows += chunk.rows;
+                columns = Math.max(columns, chunk.columns);
+            }
+
+            if (rows > Integer.MAX_VALUE || columns > Integer.MAX_VALUE) {
+                throw new RuntimeException(
+                    "Maze is too large: " + columns + "x" + rows + " tiles.");
+            }
+
+            int width = (int) columns;
+            byte[] tiles = new byte[Maze.cellCount((int) rows, width)];
+            forEachChunk(pool, chunks.length, i -> chunks[i].parse(segments, tiles, width));
+
+            Position start = findStart(chunks);
+
+            IntList goals = new IntList();
+            for (Chunk chunk : chunks) {
+                goals.addAll(chunk.goals);
+            }
+
+            return new Maze(tiles, (int) rows, width, start, goals.toArray());
+        }
+    }
+
+    /*
+     * Maps the whole file read-only as consecutive segments.
+     *
+     * @param channel - the channel of the file to map.
+     * @return the mapped segments, in file order.
+     * @throws IOException - if the file can not be mapped.
+     */
+    private static MappedByteBuffer[] map(FileChannel channel) throws IOException
+    {
+        long size = channel.size();
+        int count = (int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+
+        MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0 ; i < count ; i++) {
+            long offset = i * SEGMENT_SIZE;
+            long length = Math.min(SEGMENT_SIZE, size - offset);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+
+        return segments;
+    }
+
+    /*
+     * Splits the file into chunks that each begin at the start of a line.
+     *
+     * @param segments - the mapped segments of the file.
+     * @param size - the size of the file in bytes.
+     * @param parallelism - the number of threads the chunks will be parsed on.
+     * @return the offsets where the chunks begin, followed by the size of the file.
+     */
+    private static long[] split(MappedByteBuffer[] segments, long size, int parallelism)
+    {
+        long count = Math.max(1, Math.min(parallelism * 4L, size / MIN_CHUNK_SIZE));
+        long[] bounds = new long[(int) count + 1];
+
+        for (int i = 1 ; i < count ; i++) {
+            long offset = Math.max(bounds[i - 1], size / count * i);
+
+            while (offset < size && !isLineStart(segments, size, offset)) {
+                offset++;
+            }
+            bounds[i] = offset;
+        }
+        bounds[(int) count] = size;
+
+        return bounds;
+    }
+
+    /*
+     * Checks if a new line begins at the given offset of the file.
+     *
+     * @param segments - the mapped segments of the file.
+     * @param size - the size of the file in bytes.
+     * @param offset - the offset to check, greater than zero.
+     * @return true if a new line begins at the offset; false otherwise.
+     */
+    private static boolean isLineStart(MappedByteBuffer[] segments, long size, long offset)
+    {
+        byte previous = byteAt(segments, offset - 1);
+
+        if (previous == '\n') {
+            return true;
+        }
+
+        return previous == '\r' && (offset == size || byteAt(segments, offset) != '\n');
+    }
+
+    /*
+     * Returns the byte at the given offset of the file.
+     *
+     * @param segments - the mapped segments of the file.
+     * @param offset - the offset of the byte.
+     * @return the byte at the offset.
+     */
+    private static byte byteAt(MappedByteBuffer[] segments, long offset)
+    {
+        return segments[(int) (offset >>> SEGMENT_SHIFT)].get((int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    /*
+     * Runs the given action once for every chunk, on the pool if there is one.
+     *
+     * @param pool - the pool to run on, or null to run on the calling thread.
+     * @param count - the number of chunks.
+     * @param action - the action to run with the index of each chunk.
+     */
+    private static void forEachChunk(ForkJoinPool pool, int count, IntConsumer action)
+    {
+        if (pool == null || count == 1) {
+            for (int i = 0 ; i < count ; i++) {
+                action.accept(i);
+            }
+        } else {
+            pool.invoke(new ChunkTask(0, count, action));
+        }
+    }
+
+    /*
+     * Merges the start positions found in the chunks, in file order.
+     *
+     * @param chunks - the parsed chunks of the file.
+     * @return the start position of the maze.
+     * @throws RuntimeException - if the maze is not formatted correctly.
+     */
+    private static Position findStart(Chunk[] chunks) throws RuntimeException
+    {
+        Position start = null;
+        int starts = 0;
+        boolean foundGoal = false;
+
+        for (Chunk chunk : chunks) {
+            if (start == null) {
+                start = chunk.start;
+            }
+            starts += chunk.starts;
+            foundGoal |= chunk.foundGoal;
+        }
+
+        if (starts > 1) {
+            throw new RuntimeException(
+                "INNCORRECT FORMAT: Maze contains multiple start positions.");
+        } else if (start == null) {
+            throw new RuntimeException("INNCORRECT FORMAT: Maze missing a start position.");
+        } else if (!foundGoal) {
+            throw new RuntimeException("INNCORRECT FORMAT: Maze missing a goal position.");
+        }
+
+        return start;
+    }
+
+    /*
+     * A part of the file that begins at the start of a line, together with
+     * what was found while measuring and parsing it.
+     */
+    private static final class Chunk
+    {
+        private final long from;
+        private final long to;
+
+        private long rows = 0;
+        private long columns = 0;
+        private long firstRow = 0;
+
+        private Position start = null;
+        private int starts = 0;
+        private boolean foundGoal = false;
+        private final IntList goals = new IntList();
+
+        private Chunk(long from, long to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        /*
+         * Counts the lines in the chunk and finds the length of the longest one.
+         *
+         * @param segments - the mapped segments of the file.
+         */
+        private void measure(MappedByteBuffer[] segments)
+        {
+            long lineLength = 0;
+            boolean afterCarriageReturn = false;
+
+            for (long offset = from ; offset < to ; ) {
+                MappedByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+                int first = (int) (offset & (SEGMENT_SIZE - 1));
+                int limit = (int) Math.min(segment.limit(), first + (to - offset));
+
+                for (int i = first ; i < limit ; i++) {
+                    byte b = segment.get(i);
+
+                    if (b == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                    } else if (b == '\n' || b == '\r') {
+                        rows++;
+                        columns = Math.max(columns, lineLength);
+                        lineLength = 0;
+                        afterCarriageReturn = (b == '\r');
+                    } else {
+                        lineLength++;
+                        afterCarriageReturn = false;
+                    }
+                }
+                offset += limit - first;
+            }
+
+            if (lineLength > 0) {
+                rows++;
+                columns = Math.max(columns, lineLength);
+            }
+        }
+
+        /*
+         * Parses the chunk into the given tiles and finds the start and goal positions.
+         *
+         * @param segments - the mapped segments of the file.
+         * @param tiles - the tiles to fill, sized for the measured dimensions.
+         * @param columns - the number of columns in the maze.
+         */
+        private void parse(MappedByteBuffer[] segments, byte[] tiles, int columns)
+        {
+            int x = 0;
+            int y = (int) firstRow;
+            boolean afterCarriageReturn = false;
+
+            for (long offset = from ; offset < to ; ) {
+                MappedByteBuffer segment = segments[(int) (offset >>> SEGMENT_SHIFT)];
+                int first = (int) (offset & (SEGMENT_SIZE - 1));
+                int limit = (int) Math.min(segment.limit(), first + (to - offset));
+
+                for (int i = first ; i < limit ; i++) {
+                    byte b = segment.get(i);
+
+                    if (b == '\n' && afterCarriageReturn) {
+                        afterCarriageReturn = false;
+                    } else if (b == '\n' || b == '\r') {
+                        x = 0;
+                        y++;
+                        afterCarriageReturn = (b == '\r');
+                    } else {
+                        byte tile = Maze.toTile(b);
+
+                        if (tile == Maze.START) {
+                            if (start == null) {
+                                start = new Position(x, y);
+                            }
+                            starts++;
+                        } else if (tile == Maze.GOAL) {
+                            foundGoal = true;
+                            goals.add(y * columns + x);
+                        }
+
+                        tiles[y * columns + x] = tile;
+                        x++;
+                        afterCarriageReturn = false;
+                    }
+                }
+                offset += limit - first;
+            }
+        }
+    }
+
+    /*
+     * Runs an action for a range of chunks, splitting the range in halves
+     * until every chunk runs as its own task.
+     */
+    private static final class ChunkTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        private ChunkTask(int from, int to, IntConsumer action)
+        {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                action.accept(from);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(from, middle, action), new ChunkTask(middle, to, action));
+            }
+        }
+    }
+}
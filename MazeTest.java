@@ -2,13 +2,27 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.io.FileNotFoundException;
 
+import model.BreadthFirstRobot;
 import model.Maze;
+import model.MemoryRobot;
 import model.Position;
 
 /**
@@ -141,4 +155,344 @@ public class MazeTest {
             }
         }
     }
+
+    /**
+     * Test if the isMovable() and isGoal() methods from the Maze class treat 
+     * positions outside of the maze, and the padding after short rows, as walls.
+     */
+    @Test
+    void outsideMazeNotMovableTest() {
+        Maze maze = new Maze(new Scanner("*S***\n*  G\n***"));
+
+        assertEquals(5, maze.getNumColumns());
+        assertEquals(3, maze.getNumRows());
+
+        assertTrue(maze.isMovable(new Position(2, 1)));
+        assertTrue(maze.isGoal(new Position(3, 1)));
+        assertFalse(maze.isMovable(new Position(4, 1)));
+        assertFalse(maze.isMovable(new Position(1, -1)));
+        assertFalse(maze.isMovable(new Position(-1, 1)));
+        assertFalse(maze.isMovable(new Position(5, 0)));
+        assertFalse(maze.isMovable(new Position(1, 3)));
+        assertFalse(maze.isGoal(new Position(3, 3)));
+    }
+
+    /**
+     * Test if the load() method from the Maze class reads the same maze as the 
+     * Scanner constructor, for every kind of line separator.
+     */
+    @Test
+    void loadFromPathTest() throws IOException {
+        String[] separators = {"\n", "\r\n", "\r"};
+
+        for (String separator : separators) {
+            String text = String.join(separator, "*****", "*S *", "*  G*", "") + "** *";
+            Path path = Files.createTempFile("maze", ".txt");
+
+            try {
+                Files.writeString(path, text);
+                Maze loaded = Maze.load(path);
+                Maze scanned = new Maze(new Scanner(text));
+
+                assertEquals(scanned.getNumColumns(), loaded.getNumColumns());
+                assertEquals(scanned.getNumRows(), loaded.getNumRows());
+                assertEquals(scanned.getStart(), loaded.getStart());
+
+                for (int y = -1 ; y <= loaded.getNumRows() ; y++) {
+                    for (int x = -1 ; x <= loaded.getNumColumns() ; x++) {
+                        Position position = new Position(x, y);
+                        assertEquals(scanned.isMovable(position), loaded.isMovable(position));
+                        assertEquals(scanned.isGoal(position), loaded.isGoal(position));
+                    }
+                }
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Test if the load() method from the Maze class rejects incorrectly formatted 
+     * files with the same messages as the Scanner constructor.
+     */
+    @Test
+    void loadIncorrectFormatTest() throws IOException {
+        String[] texts = {"*S*\n*S*\n*G*", "* *\n*G*", "*S*\n* *", ""};
+
+        for (String text : texts) {
+            Path path = Files.createTempFile("maze", ".txt");
+
+            try {
+                Files.writeString(path, text);
+                RuntimeException expected = assertThrows(RuntimeException.class, 
+                    () -> new Maze(new Scanner(text)));
+                RuntimeException actual = assertThrows(RuntimeException.class, 
+                    () -> Maze.load(path));
+
+                assertEquals(expected.getMessage(), actual.getMessage());
+            } finally {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Test if the loadParallel() method from the Maze class reads the same maze 
+     * as the load() method, using a file large enough to be split into chunks.
+     */
+    @Test
+    void loadParallelTest() throws IOException {
+        StringBuilder text = new StringBuilder();
+        for (int y = 0 ; y < 3000 ; y++) {
+            for (int x = 0 ; x < 1000 + y % 7 ; x++) {
+                text.append((x * 31 + y * 17) % 5 == 0 ? '*' : ' ');
+            }
+            text.append(y % 2 == 0 ? "\r\n" : "\n");
+        }
+        text.setCharAt(1, 'S');
+        text.setCharAt(text.length() - 5, 'G');
+
+        Path path = Files.createTempFile("maze", ".txt");
+        try {
+            Files.writeString(path, text);
+            Maze loaded = Maze.load(path);
+            Maze parallel = Maze.loadParallel(path);
+
+            assertEquals(loaded.getNumColumns(), parallel.getNumColumns());
+            assertEquals(loaded.getNumRows(), parallel.getNumRows());
+            assertEquals(loaded.getStart(), parallel.getStart());
+
+            for (int y = 0 ; y < loaded.getNumRows() ; y++) {
+                for (int x = 0 ; x < loaded.getNumColumns() ; x++) {
+                    Position position = new Position(x, y);
+                    assertEquals(loaded.isMovable(position), parallel.isMovable(position));
+                    assertEquals(loaded.isGoal(position), parallel.isGoal(position));
+                }
+            }
+
+            text.setCharAt(text.length() - 10, 'S');
+            Files.writeString(path, text);
+            RuntimeException e = assertThrows(RuntimeException.class, 
+                () -> Maze.loadParallel(path));
+            assertEquals("INNCORRECT FORMAT: Maze contains multiple start positions.", 
+                e.getMessage());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Test if the getGoals() method from the Maze class returns every goal of 
+     * a maze in row major order.
+     */
+    @Test
+    void getGoalsTest() {
+        Maze maze = new Maze(new Scanner("*SG**\n*  G\n*G**"));
+        List<Position> goals = maze.getGoals();
+
+        assertEquals(3, goals.size());
+        assertEquals(new Position(2, 0), goals.get(0));
+        assertEquals(new Position(3, 1), goals.get(1));
+        assertEquals(new Position(1, 2), goals.get(2));
+    }
+
+    /**
+     * Test if the nearestGoal() method from the Maze class finds the same goal 
+     * as a linear scan over all goals, for mazes with few and many goals.
+     */
+    @Test
+    void nearestGoalTest() {
+        Random random = new Random(4);
+
+        for (int goalCount : new int[] {1, 10, 500}) {
+            StringBuilder text = new StringBuilder();
+            for (int y = 0 ; y < 150 ; y++) {
+                for (int x = 0 ; x < 170 ; x++) {
+                    text.append(x == 0 && y == 0 ? 'S' : ' ');
+                }
+                text.append('\n');
+            }
+            for (int i = 0 ; i < goalCount ; i++) {
+                text.setCharAt(random.nextInt(150) * 171 + 1 + random.nextInt(169), 'G');
+            }
+
+            Maze maze = new Maze(new Scanner(text.toString()));
+            List<Position> goals = maze.getGoals();
+
+            for (int i = 0 ; i < 200 ; i++) {
+                Position position = new Position(random.nextInt(220) - 25, random.nextInt(200) - 25);
+                Position expected = null;
+                int expectedDistance = Integer.MAX_VALUE;
+
+                for (Position goal : goals) {
+                    int distance = Math.abs(goal.getX() - position.getX()) 
+                                 + Math.abs(goal.getY() - position.getY());
+                    if (distance < expectedDistance) {
+                        expected = goal;
+                        expectedDistance = distance;
+                    }
+                }
+
+                assertEquals(expected, maze.nearestGoal(position));
+            }
+        }
+    }
+
+    /**
+     * Test if a maze written with writeBinary() and writeText() loads back with 
+     * the same dimensions, start, goals and walkable tiles.
+     */
+    @Test
+    void binaryRoundTripTest() throws IOException {
+        Maze maze = new Maze(new Scanner("*S*****\n*  G\n* ** G*\n***"));
+        Path binary = Files.createTempFile("maze", ".mazb");
+        Path text = Files.createTempFile("maze", ".txt");
+
+        try {
+            maze.writeBinary(binary);
+            Maze fromBinary = Maze.loadBinary(binary);
+            fromBinary.writeText(text);
+            Maze fromText = Maze.load(text);
+
+            for (Maze copy : new Maze[] {fromBinary, fromText}) {
+                assertEquals(maze.getNumColumns(), copy.getNumColumns());
+                assertEquals(maze.getNumRows(), copy.getNumRows());
+                assertEquals(maze.getStart(), copy.getStart());
+                assertEquals(maze.getGoals(), copy.getGoals());
+
+                for (int y = 0 ; y < maze.getNumRows() ; y++) {
+                    for (int x = 0 ; x < maze.getNumColumns() ; x++) {
+                        Position position = new Position(x, y);
+                        assertEquals(maze.isMovable(position), copy.isMovable(position));
+                        assertEquals(maze.isGoal(position), copy.isGoal(position));
+                    }
+                }
+            }
+
+            Files.writeString(binary, "not a maze");
+            assertThrows(RuntimeException.class, () -> Maze.loadBinary(binary));
+        } finally {
+            Files.delete(binary);
+            Files.delete(text);
+        }
+    }
+
+    /**
+     * Test if a binary maze file with dimensions that overflow or that do not
+     * match the size of the file is rejected before its tiles are read.
+     */
+    @Test
+    void binaryHeaderCheckTest() throws IOException {
+        Path binary = Files.createTempFile("maze", ".mazb");
+        try {
+            for (int[] size : new int[][] {{65536, 65536}, {Integer.MAX_VALUE, 2}, {1000, 1000}}) {
+                ByteBuffer header = ByteBuffer.allocate(6 * Integer.BYTES + Integer.BYTES + 1);
+                header.put("MAZB".getBytes(StandardCharsets.US_ASCII));
+                header.putInt(1).putInt(size[0]).putInt(size[1]).putInt(0).putInt(1).putInt(1);
+                Files.write(binary, header.array());
+
+                RuntimeException e = assertThrows(RuntimeException.class,
+                                                  () -> Maze.loadBinary(binary));
+                assertTrue(e.getMessage().startsWith("INNCORRECT FORMAT"));
+            }
+        } finally {
+            Files.delete(binary);
+        }
+    }
+
+    /**
+     * Test if withoutDeadEnds() fills the corridors that lead nowhere, and keeps 
+     * the start, the goals and the length of the shortest route between them.
+     */
+    @Test
+    void withoutDeadEndsTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S   **\n* ** **\n*    G*\n* *****\n*******"));
+        Maze filled = maze.withoutDeadEnds();
+
+        assertFalse(filled.isMovable(new Position(1, 4)));
+        assertTrue(filled.isMovable(new Position(4, 2)));
+        assertTrue(filled.isMovable(new Position(4, 1)));
+        assertTrue(filled.isMovable(new Position(1, 2)));
+
+        Random random = new Random(3);
+        for (int i = 0 ; i < 200 ; i++) {
+            maze = MazeTestSupport.randomMaze(random, 20, 15, 35, 1);
+            filled = maze.withoutDeadEnds();
+
+            assertEquals(maze.getStart(), filled.getStart());
+            assertEquals(maze.getGoals(), filled.getGoals());
+            assertEquals(new BreadthFirstRobot(maze).getPath().size(),
+                         new BreadthFirstRobot(filled).getPath().size());
+
+            for (int y = 0 ; y < maze.getNumRows() ; y++) {
+                for (int x = 0 ; x < maze.getNumColumns() ; x++) {
+                    Position position = new Position(x, y);
+                    if (!filled.isMovable(position) || position.equals(filled.getStart())
+                        || filled.isGoal(position)) {
+                        continue;
+                    }
+
+                    int neighbours = 0;
+                    for (Position next : new Position[] {position.getPosToEast(), 
+                            position.getPosToNorth(), position.getPosToSouth(), 
+                            position.getPosToWest()}) {
+                        if (filled.isMovable(next)) {
+                            neighbours++;
+                        }
+                    }
+                    assertTrue(maze.isMovable(position));
+                    assertTrue(neighbours >= 2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test if distanceToGoal() returns the length of the shortest route to the 
+     * nearest goal, and -1 for walls, tiles outside the maze and tiles that can 
+     * not reach a goal.
+     */
+    @Test
+    void distanceToGoalTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S  * *\n** *G**\n*G   **\n*******"));
+
+        assertEquals(4, maze.distanceToGoal(maze.getStart()));
+        assertEquals(0, maze.distanceToGoal(4, 2));
+        assertEquals(0, maze.distanceToGoal(1, 3));
+        assertEquals(3, maze.distanceToGoal(2, 1));
+        assertEquals(2, maze.distanceToGoal(3, 3));
+        assertEquals(-1, maze.distanceToGoal(3, 2));
+        assertEquals(-1, maze.distanceToGoal(new Position(5, 1)));
+        assertEquals(-1, maze.distanceToGoal(0, 0));
+        assertEquals(-1, maze.distanceToGoal(-1, 2));
+        assertEquals(-1, maze.distanceToGoal(7, 2));
+    }
+
+    /**
+     * Test if one maze can be shared by robots on several threads, which all 
+     * see the same tiles and distances as a robot on a single thread.
+     */
+    @Test
+    void sharedAcrossThreadsTest() throws Exception {
+        Maze maze = new Maze(new Scanner("*********\n*S      *\n* ***** *\n* *   * *\n"
+                                         + "*   *   *\n*** *****\n*G      *\n*********"));
+        long expected = new MemoryRobot(maze).moveUntilGoal(Long.MAX_VALUE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> walks = new ArrayList<Future<Long>>();
+            for (int i = 0 ; i < 64 ; i++) {
+                walks.add(executor.submit(() -> {
+                    assertEquals(9, maze.distanceToGoal(maze.getStart()));
+                    return new MemoryRobot(maze).moveUntilGoal(Long.MAX_VALUE);
+                }));
+            }
+
+            for (Future<Long> walk : walks) {
+                assertEquals(expected, (long) walk.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
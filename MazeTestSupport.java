@@ -0,0 +1,102 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Scanner;
+
+import model.BreadthFirstRobot;
+import model.Maze;
+import model.Position;
+
+/**
+ * Shared helpers for the JUnit test classes that check robots and searches
+ * against a plain breadth first search on random mazes.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+final class MazeTestSupport {
+
+    private MazeTestSupport() {
+    }
+
+    /**
+     * Creates a random maze with the given size and number of goals, where
+     * roughly {@code wallPercent} percent of the tiles are walls. The start is
+     * placed in the left half of the maze and the goals in the right half, so
+     * the goals never replace the start.
+     *
+     * @param random the generator to draw the maze from.
+     * @param columns the number of columns, at least two.
+     * @param rows the number of rows, at least one.
+     * @param wallPercent the chance in percent that a tile is a wall.
+     * @param goals the number of goals to place, some may share a tile.
+     * @return the random maze.
+     */
+    static Maze randomMaze(Random random, int columns, int rows, int wallPercent, int goals) {
+        char[][] tiles = new char[rows][columns];
+        for (int y = 0 ; y < rows ; y++) {
+            for (int x = 0 ; x < columns ; x++) {
+                tiles[y][x] = random.nextInt(100) < wallPercent ? '*' : ' ';
+            }
+        }
+
+        int half = columns / 2;
+        tiles[random.nextInt(rows)][random.nextInt(half)] = 'S';
+        for (int i = 0 ; i < goals ; i++) {
+            tiles[random.nextInt(rows)][half + random.nextInt(columns - half)] = 'G';
+        }
+
+        StringBuilder text = new StringBuilder();
+        for (char[] row : tiles) {
+            text.append(row).append('\n');
+        }
+
+        return new Maze(new Scanner(text.toString()));
+    }
+
+    /**
+     * Asserts that {@code path} is as long as the path found by a breadth first
+     * search, and that it is a walk from the start to a goal.
+     *
+     * @param maze the maze the path was found in.
+     * @param path the path to check, empty if no goal can be reached.
+     */
+    static void assertShortestPath(Maze maze, List<Position> path) {
+        assertEquals(new BreadthFirstRobot(maze).getPath().size(), path.size());
+        assertWalk(maze, path);
+    }
+
+    /**
+     * Asserts that a non-empty {@code path} starts at the start, ends at a goal
+     * and only moves between neighbouring walkable positions.
+     *
+     * @param maze the maze the path was found in.
+     * @param path the path to check.
+     */
+    static void assertWalk(Maze maze, List<Position> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+
+        assertEquals(maze.getStart(), path.get(0));
+        assertTrue(maze.isGoal(path.get(path.size() - 1)));
+        for (int i = 1 ; i < path.size() ; i++) {
+            assertStep(maze, path.get(i - 1), path.get(i));
+        }
+    }
+
+    /**
+     * Asserts that {@code current} is a walkable neighbour of {@code previous}.
+     *
+     * @param maze the maze the step was taken in.
+     * @param previous the position before the step.
+     * @param current the position after the step.
+     */
+    static void assertStep(Maze maze, Position previous, Position current) {
+        assertTrue(maze.isMovable(current));
+        assertEquals(1, Math.abs(previous.getX() - current.getX())
+                      + Math.abs(previous.getY() - current.getY()));
+    }
+}
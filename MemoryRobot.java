@@ -1,23 +1,30 @@
 package model;
 
-import java.util.Stack;
-import java.util.EmptyStackException;
-import java.util.HashMap;
-
-
 /**
  * A class representing a Robot that traverses a maze by a depth 
  * first search until it finds the goal.
  * 
+ * The visited positions are kept in a bitset with one bit per tile
+ * of the maze, and the path back to the start in a stack of packed
+ * tile indices, so a step does not allocate any objects.
+ *
  * @author Daniel Hylander
  * @since 2023-04-27
  */
 public class MemoryRobot implements Robot
 { 
-    private Position position;
+    /*
+     * The directions are tried in the order East, North, South, West.
+     */
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    private int x;
+    private int y;
 
-    private Stack<Position> pathSoFar = new Stack<>();
-    private HashMap<Position, Position> visitedPosistions = new HashMap<>();
+    private final IntList pathSoFar = new IntList();
+    private final long[] visitedPosistions;
+    private final int columns;
 
     private Maze maze;
 
@@ -31,54 +38,111 @@ public class MemoryRobot implements Robot
      */
     public MemoryRobot(Maze maze) {
         this.maze = maze;
-        position = maze.getStart();
+
+        Position start = maze.getStart();
+        x = start.getX();
+        y = start.getY();
+
+        columns = maze.getNumColumns();
+        visitedPosistions = new long[(maze.getNumRows() * columns + 63) >>> 6];
     }
 
 
     /**
      * Moves robot one step forward in using depthfirst search of the maze.
+     * If every reachable position has been visited and the robot is back
+     * at the start, it stays where it is.
      */
     public void move() {
-        Position[] possibleDirections = {
-            position.getPosToEast(),
-            position.getPosToNorth(),
-            position.getPosToSouth(),
-            position.getPosToWest()
-        };
+        step();
+    }
 
-        Position nextPosition = firstMovableDirectionNotVisited(possibleDirections);
 
-        visitedPosistions.putIfAbsent(nextPosition, nextPosition);
-        position = nextPosition;
+    /**
+     * Moves the robot up to {@code steps} steps, stopping early if it
+     * reaches the goal or has explored every reachable position.
+     *
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public int move(int steps) {
+        return (int) moveUntilGoal(steps);
     }
 
 
     /**
-     * Finds the first direction that is movable, excluding the positions visited before. 
-     * If no direction is found, the last visited position is returned.
-     * 
-     * @param possibleDirections - the possible directions that the robot can move.
-     * @return the first direction that is movable.
+     * Moves the robot until it reaches the goal, moving at most
+     * {@code maxSteps} steps. The robot stops early if it has explored
+     * every reachable position without finding a goal.
+     *
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
      */
-    private Position firstMovableDirectionNotVisited(Position[] possibleDirections) {
-        Position position = this.position;
+    @Override
+    public long moveUntilGoal(long maxSteps) {
+        long steps = 0;
+
+        while (steps < maxSteps && !maze.isGoal(x, y) && step()) {
+            steps++;
+        }
+
+        return steps;
+    }
+
 
+    /**
+     * Moves the robot one step of the depth first search.
+     *
+     * @return true if the robot moved; false if there was nothing left to explore.
+     */
+    private boolean step() {
         for (int i = 0 ; i < 4 ; i++) {
-            position = possibleDirections[i];
+            int nextX = x + DX[i];
+            int nextY = y + DY[i];
 
-            if (maze.isMovable(position) && 
-                !visitedPosistions.containsKey(position)) {
-                pathSoFar.add(this.position);
+            if (maze.isMovable(nextX, nextY) && !isVisited(nextY * columns + nextX)) {
+                pathSoFar.add(y * columns + x);
+                moveTo(nextX, nextY);
 
-                return position;
+                return true;
             }
         }
 
-        try {
-            return pathSoFar.pop();
-        } catch (EmptyStackException e) {
-            return position;
+        if (pathSoFar.isEmpty()) {
+            return false;
         }
+
+        int index = pathSoFar.pop();
+        moveTo(index % columns, index / columns);
+
+        return true;
+    }
+
+
+    /**
+     * Moves the robot to {@code (x, y)} and marks the position as visited.
+     *
+     * @param x the x-coordinate to move to.
+     * @param y the y-coordinate to move to.
+     */
+    private void moveTo(int x, int y) {
+        int index = y * columns + x;
+        visitedPosistions[index >>> 6] |= 1L << index;
+
+        this.x = x;
+        this.y = y;
+    }
+
+
+    /**
+     * Checks if the tile at the given packed tile index has been visited.
+     *
+     * @param index the packed tile index {@code y * columns + x}.
+     * @return true if the tile has been visited; false otherwise.
+     */
+    private boolean isVisited(int index) {
+        return (visitedPosistions[index >>> 6] & (1L << index)) != 0;
     }
 
 
@@ -89,7 +153,7 @@ public class MemoryRobot implements Robot
      */
     public Position getPosition()
     {
-        return position;
+        return new Position(x, y);
     }
 
     /**
@@ -99,6 +163,6 @@ public class MemoryRobot implements Robot
      */
     public boolean hasReachedGoal()
     {
-        return maze.isGoal(position);
+        return maze.isGoal(x, y);
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Scanner;
+
+import model.Maze;
+import model.MemoryRobot;
+
+/**
+ * JUnit test class for the {@link model.MemoryRobot} class.
+ * Tests the robot in mazes given as text, so that no maze files are needed.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class MemoryRobotInlineTest {
+
+    /**
+     * Test if the robot explores every branch of a maze given as text and
+     * stays at the start once there is nothing left to explore.
+     */
+    @Test
+    void exploreInlineMazeTest() {
+        Maze maze = new Maze(new Scanner("*******\n*  S  *\n* *** *\n*     *\n*******\n**G"));
+        MemoryRobot robot = new MemoryRobot(maze);
+
+        for (int i = 0 ; i < 100 ; i++) {
+            robot.move();
+            assertTrue(maze.isMovable(robot.getPosition()));
+        }
+        assertEquals(maze.getStart(), robot.getPosition());
+    }
+
+    /**
+     * Test if the bulk moveUntilGoal() and move(int) methods take the same
+     * walk as calling move() once per step.
+     */
+    @Test
+    void bulkMoveTest() {
+        String text = "*******\n*  S  *\n* *** *\n*     *\n*** ***\n*G    *\n*******";
+        Maze maze = new Maze(new Scanner(text));
+        MemoryRobot single = new MemoryRobot(maze);
+        long steps = 0;
+
+        while (!single.hasReachedGoal()) {
+            single.move();
+            steps++;
+        }
+
+        MemoryRobot bulk = new MemoryRobot(maze);
+        assertEquals(steps, bulk.moveUntilGoal(Long.MAX_VALUE));
+        assertEquals(single.getPosition(), bulk.getPosition());
+
+        MemoryRobot limited = new MemoryRobot(maze);
+        assertEquals(3, limited.move(3));
+        assertEquals(steps - 3, (long) limited.move((int) steps));
+        assertTrue(limited.hasReachedGoal());
+    }
+}
@@ -0,0 +1,319 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A breadth first search over a whole maze that expands each level of the
+ * frontier in parallel on a fork-join pool, for mazes too large to search
+ * quickly on one thread.
+ *
+ * The frontier is split into slices that are expanded as separate tasks.
+ * Tiles are claimed with a compare-and-set on a shared bitset with one bit
+ * per tile, so every tile is reached exactly once and the thread that claims
+ * it records its distance. The search produces the distance from the start
+ * to every reachable tile, and a shortest path to the nearest goal.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class ParallelBreadthFirstSearch
+{
+    /*
+     * Frontiers smaller than this are expanded on the calling thread, and
+     * larger frontiers are split into slices of this size.
+     */
+    private static final int SLICE_SIZE = 4096;
+
+    private final Maze maze;
+    private final int columns;
+    private final int rows;
+
+    private final AtomicLongArray reached;
+    private final int[] distances;
+    private final int goal;
+
+    /**
+     * Searches the given {@code maze} from its start on the common fork-join pool.
+     *
+     * @param maze the maze to search.
+     */
+    public ParallelBreadthFirstSearch(Maze maze)
+    {
+        this(maze, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Searches the given {@code maze} from its start on the given {@code pool}.
+     *
+     * @param maze the maze to search.
+     * @param pool the pool to expand the frontiers on.
+     */
+    public ParallelBreadthFirstSearch(Maze maze, ForkJoinPool pool)
+    {
+        this.maze = maze;
+        columns = maze.getNumColumns();
+        rows = maze.getNumRows();
+
+        int cells = rows * columns;
+        reached = new AtomicLongArray((cells + 63) >>> 6);
+        distances = new int[cells];
+
+        int start = maze.startIndex();
+        claim(start, 0);
+
+        int[] frontier = {start};
+        for (int level = 1 ; frontier.length > 0 ; level++) {
+            frontier = expand(pool, frontier, level);
+        }
+
+        int nearest = -1;
+        for (int tile : maze.goalIndices()) {
+            if (isReached(tile) && (nearest < 0 || distances[tile] < distances[nearest])) {
+                nearest = tile;
+            }
+        }
+        goal = nearest;
+    }
+
+    /**
+     * Returns the length of a shortest path from the start to {@code (x, y)}.
+     *
+     * @param x the x-coordinate of the tile.
+     * @param y the y-coordinate of the tile.
+     * @return the distance to the tile, or -1 if it can not be reached.
+     */
+    public int getDistance(int x, int y)
+    {
+        if (x < 0 || y < 0 || x >= columns || y >= rows) {
+            return -1;
+        }
+
+        int tile = y * columns + x;
+        return isReached(tile) ? distances[tile] : -1;
+    }
+
+    /**
+     * Returns the length of a shortest path from the start to the {@code position}.
+     *
+     * @param position the position to get the distance to.
+     * @return the distance to the position, or -1 if it can not be reached.
+     */
+    public int getDistance(Position position)
+    {
+        return getDistance(position.getX(), position.getY());
+    }
+
+    /**
+     * Returns a shortest path from the start to the nearest goal.
+     *
+     * @return an unmodifiable list of the positions on the path, or an empty
+     *         list if no goal can be reached.
+     */
+    public List<Position> getPath()
+    {
+        if (goal < 0) {
+            return Collections.emptyList();
+        }
+
+        Position[] path = new Position[distances[goal] + 1];
+        int tile = goal;
+        for (int i = path.length - 1 ; i > 0 ; i--) {
+            path[i] = new Position(tile % columns, tile / columns);
+            tile = previousTile(tile);
+        }
+        path[0] = maze.getStart();
+
+        ArrayList<Position> positions = new ArrayList<Position>(path.length);
+        Collections.addAll(positions, path);
+
+        return Collections.unmodifiableList(positions);
+    }
+
+    /*
+     * Expands one level of the frontier, splitting it into slices on the pool
+     * when it is large.
+     *
+     * @param pool - the pool to expand the slices on.
+     * @param frontier - the tiles at distance level - 1.
+     * @param level - the distance of the tiles reached from the frontier.
+     * @return the tiles at distance level.
+     */
+    private int[] expand(ForkJoinPool pool, int[] frontier, int level)
+    {
+        int slices = (frontier.length + SLICE_SIZE - 1) / SLICE_SIZE;
+        IntList[] next = new IntList[slices];
+
+        if (slices == 1) {
+            next[0] = expandSlice(frontier, 0, frontier.length, level);
+        } else {
+            pool.invoke(new LevelTask(frontier, level, next, 0, slices));
+        }
+
+        int size = 0;
+        for (IntList slice : next) {
+            size += slice.size();
+        }
+
+        int[] merged = new int[size];
+        int offset = 0;
+        for (IntList slice : next) {
+            slice.copyTo(merged, offset);
+            offset += slice.size();
+        }
+
+        return merged;
+    }
+
+    /*
+     * Expands a slice of the frontier, claiming the unreached walkable neighbours
+     * of its tiles.
+     *
+     * @param frontier - the tiles at distance level - 1.
+     * @param from - the first index of the slice.
+     * @param to - the index after the last index of the slice.
+     * @param level - the distance of the tiles reached from the slice.
+     * @return the tiles claimed from the slice.
+     */
+    private IntList expandSlice(int[] frontier, int from, int to, int level)
+    {
+        IntList next = new IntList(to - from);
+
+        for (int i = from ; i < to ; i++) {
+            int tile = frontier[i];
+            int y = tile / columns;
+            int x = tile - y * columns;
+
+            if (x + 1 < columns) {
+                visit(next, tile + 1, level);
+            }
+            if (y > 0) {
+                visit(next, tile - columns, level);
+            }
+            if (y + 1 < rows) {
+                visit(next, tile + columns, level);
+            }
+            if (x > 0) {
+                visit(next, tile - 1, level);
+            }
+        }
+
+        return next;
+    }
+
+    /*
+     * Claims the tile at the given distance if it is walkable and not yet reached.
+     *
+     * @param next - the tiles claimed so far at this level.
+     * @param tile - the tile to claim.
+     * @param level - the distance of the tile.
+     */
+    private void visit(IntList next, int tile, int level)
+    {
+        if (maze.tile(tile) != Maze.WALL && claim(tile, level)) {
+            next.add(tile);
+        }
+    }
+
+    /*
+     * Marks the tile as reached and records its distance, unless another thread
+     * reached it first.
+     *
+     * @param tile - the tile to claim.
+     * @param distance - the distance of the tile.
+     * @return true if this call claimed the tile; false if it was already reached.
+     */
+    private boolean claim(int tile, int distance)
+    {
+        int word = tile >>> 6;
+        long bit = 1L << tile;
+
+        long bits = reached.get(word);
+        while ((bits & bit) == 0) {
+            if (reached.compareAndSet(word, bits, bits | bit)) {
+                distances[tile] = distance;
+                return true;
+            }
+            bits = reached.get(word);
+        }
+
+        return false;
+    }
+
+    /*
+     * Checks if the tile has been reached by the search.
+     *
+     * @param tile - the tile to check.
+     * @return true if the tile has been reached; false otherwise.
+     */
+    private boolean isReached(int tile)
+    {
+        return (reached.get(tile >>> 6) & (1L << tile)) != 0;
+    }
+
+    /*
+     * Returns a neighbour of the tile that is one step closer to the start,
+     * trying East, North, South and West in that order.
+     *
+     * @param tile - a reached tile other than the start.
+     * @return the neighbouring tile one step closer to the start.
+     */
+    private int previousTile(int tile)
+    {
+        int y = tile / columns;
+        int x = tile - y * columns;
+        int distance = distances[tile] - 1;
+
+        if (getDistance(x + 1, y) == distance) {
+            return tile + 1;
+        } else if (getDistance(x, y - 1) == distance) {
+            return tile - columns;
+        } else if (getDistance(x, y + 1) == distance) {
+            return tile + columns;
+        }
+
+        return tile - 1;
+    }
+
+    /*
+     * Expands a range of slices of one frontier level, splitting the range in
+     * halves until every slice runs as its own task.
+     */
+    private final class LevelTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] frontier;
+        private final int level;
+        private final IntList[] next;
+        private final int from;
+        private final int to;
+
+        private LevelTask(int[] frontier, int level, IntList[] next, int from, int to)
+        {
+            this.frontier = frontier;
+            this.level = level;
+            this.next = next;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                int first = from * SLICE_SIZE;
+                int last = Math.min(frontier.length, first + SLICE_SIZE);
+                next[from] = expandSlice(frontier, first, last, level);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new LevelTask(frontier, level, next, from, middle),
+                          new LevelTask(frontier, level, next, middle, to));
+            }
+        }
+    }
+}
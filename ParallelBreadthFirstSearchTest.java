@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+import model.Maze;
+import model.ParallelBreadthFirstSearch;
+import model.Position;
+
+/**
+ * JUnit test class for the {@link model.ParallelBreadthFirstSearch} class.
+ * Tests the distance map and path against a plain breadth first search.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class ParallelBreadthFirstSearchTest {
+
+    /**
+     * Test if the distance to every tile matches a sequential breadth first
+     * search, using a maze with frontiers wide enough to be split into slices.
+     */
+    @Test
+    void distanceMapTest() {
+        int size = 2200;
+        Random random = new Random(5);
+        char[][] tiles = new char[size][size];
+        for (char[] row : tiles) {
+            for (int x = 0 ; x < size ; x++) {
+                row[x] = random.nextInt(100) < 10 ? '*' : ' ';
+            }
+        }
+        tiles[size / 2][size / 2] = 'S';
+        tiles[3][5] = 'G';
+
+        StringBuilder text = new StringBuilder();
+        for (char[] row : tiles) {
+            text.append(row).append('\n');
+        }
+        Maze maze = new Maze(new Scanner(text.toString()));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelBreadthFirstSearch search = new ParallelBreadthFirstSearch(maze, pool);
+            int[] expected = distances(maze);
+
+            for (int y = 0 ; y < size ; y++) {
+                for (int x = 0 ; x < size ; x++) {
+                    assertEquals(expected[y * size + x], search.getDistance(x, y));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test if the path is a shortest path from the start to the nearest goal.
+     */
+    @Test
+    void pathTest() {
+        Random random = new Random(9);
+
+        for (int i = 0 ; i < 200 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 30, 20, 30, 1);
+            MazeTestSupport.assertShortestPath(maze, new ParallelBreadthFirstSearch(maze).getPath());
+        }
+    }
+
+    /**
+     * Computes the distance from the start to every tile of the maze with a
+     * plain breadth first search, -1 for tiles that can not be reached.
+     */
+    private static int[] distances(Maze maze) {
+        int columns = maze.getNumColumns();
+        int rows = maze.getNumRows();
+        int[] distances = new int[columns * rows];
+        Arrays.fill(distances, -1);
+
+        Position start = maze.getStart();
+        distances[start.getY() * columns + start.getX()] = 0;
+        ArrayDeque<Position> queue = new ArrayDeque<>();
+        queue.add(start);
+
+        while (!queue.isEmpty()) {
+            Position position = queue.poll();
+            int distance = distances[position.getY() * columns + position.getX()];
+            Position[] neighbours = {
+                position.getPosToEast(),
+                position.getPosToNorth(),
+                position.getPosToSouth(),
+                position.getPosToWest()
+            };
+
+            for (Position neighbour : neighbours) {
+                int index = neighbour.getY() * columns + neighbour.getX();
+                if (maze.isMovable(neighbour) && distances[index] < 0) {
+                    distances[index] = distance + 1;
+                    queue.add(neighbour);
+                }
+            }
+        }
+
+        return distances;
+    }
+}
@@ -0,0 +1,160 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A class representing a Robot that plans its whole route through a maze
+ * when it is created, and then walks the planned path one tile per step.
+ * Subclasses decide how the path is found.
+ *
+ * The path is kept as packed tile indices {@code y * columns + x}. If no
+ * goal can be reached the path only holds the start, and the robot stays
+ * where it is.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public abstract class PathRobot implements Robot
+{
+    private final int[] path;
+    private int step = 0;
+
+    private final int columns;
+    private final Maze maze;
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the
+     * start of the given {@code path}.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @param path the packed tile indices of the path, beginning with the start.
+     */
+    PathRobot(Maze maze, int[] path)
+    {
+        this.maze = maze;
+        this.path = path;
+
+        columns = maze.getNumColumns();
+    }
+
+    /**
+     * Traces the path from {@code start} to {@code goal} backwards through the
+     * given parent links.
+     *
+     * @param parent the tile each tile was reached from, with the start as its own parent.
+     * @param start the packed tile index of the start.
+     * @param goal the packed tile index of the goal, or -1 if no goal was reached.
+     * @return the packed tile indices of the path from the start to the goal.
+     */
+    static int[] tracePath(int[] parent, int start, int goal)
+    {
+        if (goal < 0) {
+            return new int[] {start};
+        }
+
+        int length = 1;
+        for (int tile = goal ; tile != start ; tile = parent[tile]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        for (int tile = goal, i = length - 1 ; i >= 0 ; tile = parent[tile], i--) {
+            path[i] = tile;
+        }
+
+        return path;
+    }
+
+    /**
+     * Moves the robot one step along its planned path. A robot that has
+     * reached the end of its path stays where it is.
+     */
+    public void move()
+    {
+        if (step < path.length - 1) {
+            step++;
+        }
+    }
+
+    /**
+     * Moves the robot up to {@code steps} steps along its planned path.
+     *
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public int move(int steps)
+    {
+        return (int) moveUntilGoal(steps);
+    }
+
+    /**
+     * Moves the robot along its planned path until it reaches the goal,
+     * moving at most {@code maxSteps} steps. The robot stops early if no
+     * goal can be reached.
+     *
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public long moveUntilGoal(long maxSteps)
+    {
+        int steps = (int) Math.min(Math.max(0, maxSteps), path.length - 1 - step);
+        step += steps;
+
+        return steps;
+    }
+
+    /**
+     * Returns the planned path from the start to the goal.
+     *
+     * @return an unmodifiable list of the positions on the path, or an empty
+     *         list if no goal can be reached.
+     */
+    public List<Position> getPath()
+    {
+        if (!maze.isGoal(toPosition(path[path.length - 1]))) {
+            return Collections.emptyList();
+        }
+
+        ArrayList<Position> positions = new ArrayList<Position>(path.length);
+        for (int tile : path) {
+            positions.add(toPosition(tile));
+        }
+
+        return Collections.unmodifiableList(positions);
+    }
+
+    /**
+     * Returns the the robot's current position inside the maze.
+     *
+     * @return the robots current position.
+     */
+    public Position getPosition()
+    {
+        return toPosition(path[step]);
+    }
+
+    /**
+     * Checks if the robot has reach the end of the maze.
+     *
+     * @return true if the robot has reach the end of the maze; false otherwise.
+     */
+    public boolean hasReachedGoal()
+    {
+        return maze.tile(path[step]) == Maze.GOAL;
+    }
+
+    /*
+     * Converts a packed tile index to a position.
+     *
+     * @param tile - the packed tile index.
+     * @return the position of the tile.
+     */
+    private Position toPosition(int tile)
+    {
+        return new Position(tile % columns, tile / columns);
+    }
+}
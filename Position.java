@@ -1,18 +1,21 @@
 package model;
 
-import java.util.Objects;
-
 /**
  * A point representing the location of a robot in {@code (x, y)} coordinate space 
  * inside a maze, specified in integer precision.
  * 
+ * Positions are immutable values. Code that probes many positions can instead use 
+ * the packed form of a position, a {@code long} holding {@code y} in the high 32 
+ * bits and {@code x} in the low 32 bits, together with the static helpers of this 
+ * class, to avoid allocating a new object for every probe.
+ * 
  * @author Daniel Hylander
  * @since 2023-04-27
  */
-public class Position
+public final class Position
 {
-    private int x;
-    private int y;
+    private final int x;
+    private final int y;
 
     /**
      * Constructs and initializes a point at the specified
@@ -27,6 +30,106 @@ public class Position
         this.y = y;
     }
 
+    /**
+     * Constructs and initializes a point at the location given by the 
+     * {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates, as returned by {@link #pack(int, int)}.
+     * @return the position at the packed coordinates.
+     */
+    public static Position fromPacked(long packed)
+    {
+        return new Position(unpackX(packed), unpackY(packed));
+    }
+
+    /**
+     * Packs the {@code (x, y)} coordinates into a single {@code long}.
+     * 
+     * @param x the x-coordinate
+     * @param y the y-coordinate
+     * @return the packed coordinates.
+     */
+    public static long pack(int x, int y)
+    {
+        return ((long) y << 32) | (x & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the x-coordinate of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the x-coordinate.
+     */
+    public static int unpackX(long packed)
+    {
+        return (int) packed;
+    }
+
+    /**
+     * Returns the y-coordinate of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the y-coordinate.
+     */
+    public static int unpackY(long packed)
+    {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * Returns the packed coordinates south of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the packed coordinates to the south.
+     */
+    public static long south(long packed)
+    {
+        return pack(unpackX(packed), unpackY(packed) + 1);
+    }
+
+    /**
+     * Returns the packed coordinates north of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the packed coordinates to the north.
+     */
+    public static long north(long packed)
+    {
+        return pack(unpackX(packed), unpackY(packed) - 1);
+    }
+
+    /**
+     * Returns the packed coordinates west of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the packed coordinates to the west.
+     */
+    public static long west(long packed)
+    {
+        return pack(unpackX(packed) - 1, unpackY(packed));
+    }
+
+    /**
+     * Returns the packed coordinates east of the {@code packed} coordinates.
+     * 
+     * @param packed the packed coordinates.
+     * @return the packed coordinates to the east.
+     */
+    public static long east(long packed)
+    {
+        return pack(unpackX(packed) + 1, unpackY(packed));
+    }
+
+    /**
+     * Returns the coordinates of this position packed into a single {@code long}.
+     * 
+     * @return the packed coordinates.
+     */
+    public long toPacked()
+    {
+        return pack(x, y);
+    }
+
     /**
      * Returns the x-coordinate of the robot, in integer precision.
      * 
@@ -170,13 +273,14 @@ public class Position
      * </ul>
      * 
      * This implementation return a hash code base on the {@code x} and {@code y} coordinates 
-     * of the Position object.
+     * of the Position object. It is the same value as {@code Objects.hash(x, y)}, computed 
+     * without boxing the coordinates.
      * 
      * @return a hash code value for this object.
      */
     @Override
     public int hashCode()
     {
-        return Objects.hash(x, y);
+        return 31 * (31 + x) + y;
     }
 }
\ No newline at end of file
@@ -213,4 +213,42 @@ public class PositionTest {
             }
         }
     }
+
+    /**
+     * Test if the pack() and unpack methods from the Postision class works by 
+     * checking if packed coordinates unpack to the same coordinates, also for 
+     * negative coordinates.
+     */
+    @Test
+    void packTest() {
+        for (int i = -5 ; i < 10 ; i++) {
+            for (int j = -5 ; j < 10 ; j++) {
+                long packed = Position.pack(i, j);
+
+                assertEquals(i, Position.unpackX(packed));
+                assertEquals(j, Position.unpackY(packed));
+                assertEquals(packed, new Position(i, j).toPacked());
+                assertEquals(new Position(i, j), Position.fromPacked(packed));
+            }
+        }
+    }
+
+    /**
+     * Test if the packed neighbour methods from the Postision class works by 
+     * checking if they return the same coordinates as the getPosTo methods.
+     */
+    @Test
+    void packedNeighbourTest() {
+        for (int i = -5 ; i < 10 ; i++) {
+            for (int j = -5 ; j < 10 ; j++) {
+                Position position = new Position(i, j);
+                long packed = position.toPacked();
+
+                assertEquals(position.getPosToNorth().toPacked(), Position.north(packed));
+                assertEquals(position.getPosToSouth().toPacked(), Position.south(packed));
+                assertEquals(position.getPosToEast().toPacked(), Position.east(packed));
+                assertEquals(position.getPosToWest().toPacked(), Position.west(packed));
+            }
+        }
+    }
 }
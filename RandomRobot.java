@@ -1,20 +1,32 @@
 package model;
-import java.util.Arrays;
-import java.util.Collections;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A class representing a Robot that traverses a maze by moveing in random 
  * directions until it finds the goal.
  * 
+ * Every robot draws its directions from its own random generator, which can be 
+ * seeded to make a walk reproducible. A step does not allocate any objects.
+ * 
  * @author Daniel Hylander
  * @since 2023-04-27
  */
 public class RandomRobot implements Robot
 {
-    private Position position;
-    private Position previousPosition;
+    /*
+     * The step along each axis for the directions East, North, South and West.
+     */
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    private int x;
+    private int y;
+    private int previousX;
+    private int previousY;
 
     private Maze maze;
+    private RandomGenerator random;
 
     /**
      * Constructus and initializes a robot inside the {@code maze} at the start position.
@@ -25,10 +37,42 @@ public class RandomRobot implements Robot
      */
     public RandomRobot(Maze maze)
     {
-        position = maze.getStart();
-        previousPosition = position;
+        this(maze, new SplittableRandom());
+    }
+
+    /**
+     * Constructus and initializes a robot inside the {@code maze} at the start position, 
+     * that draws its directions from a generator seeded with {@code seed}. Two robots 
+     * with the same seed in the same maze take the same walk.
+     * 
+     * @param maze the maze that the robot will traverse.
+     * @param seed the seed of the robot's random generator.
+     * @see Maze
+     */
+    public RandomRobot(Maze maze, long seed)
+    {
+        this(maze, new SplittableRandom(seed));
+    }
+
+    /**
+     * Constructus and initializes a robot inside the {@code maze} at the start position, 
+     * that draws its directions from the given {@code random} generator. The generator 
+     * should not be shared with other threads.
+     * 
+     * @param maze the maze that the robot will traverse.
+     * @param random the generator to draw directions from.
+     * @see Maze
+     */
+    public RandomRobot(Maze maze, RandomGenerator random)
+    {
+        Position start = maze.getStart();
+        x = start.getX();
+        y = start.getY();
+        previousX = x;
+        previousY = y;
 
         this.maze = maze;
+        this.random = random;
     }
 
     /**
@@ -37,54 +81,104 @@ public class RandomRobot implements Robot
      */
     public void move()
     {
-        Position[] possibleDirections = {
-            position.getPosToEast(),
-            position.getPosToNorth(),
-            position.getPosToSouth(),
-            position.getPosToWest()
-        };
-        Collections.shuffle(Arrays.asList(possibleDirections));
- 
-        Position nextPosition = findFirstMovableDirection(possibleDirections);
+        step();
+    }
+
+    /**
+     * Moves the robot up to {@code steps} steps, stopping early if it reaches the goal 
+     * or has no movable position around it.
+     * 
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public int move(int steps)
+    {
+        return (int) moveUntilGoal(steps);
+    }
+
+    /**
+     * Moves the robot until it reaches the goal, moving at most {@code maxSteps} steps. 
+     * The robot stops early if it has no movable position around it.
+     * 
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public long moveUntilGoal(long maxSteps)
+    {
+        long steps = 0;
+
+        while (steps < maxSteps && !maze.isGoal(x, y) && step()) {
+            steps++;
+        }
+
+        return steps;
+    }
+
+    /**
+     * Moves the robot one step in a random direction, excluding the position it last 
+     * visited, or back to the last visited position if there is no other way.
+     * 
+     * @return true if the robot moved; false if it has no movable position around it.
+     */
+    private boolean step()
+    {
+        int directions = findMovableDirections();
         
-        setPosition(nextPosition);
+        if (directions == 0) {
+            if (previousX == x && previousY == y) {
+                return false;
+            }
+
+            setPosition(previousX, previousY);
+            return true;
+        }
+
+        int choice = random.nextInt(Integer.bitCount(directions));
+        int direction = Integer.numberOfTrailingZeros(directions);
+        for (int i = 0 ; i < choice ; i++) {
+            directions &= directions - 1;
+            direction = Integer.numberOfTrailingZeros(directions);
+        }
+
+        setPosition(x + DX[direction], y + DY[direction]);
+        return true;
     }
     
     /**
-     * Finds the first direction that is movable, excluding the position it last visited. 
-     * If no direction is found, the last visited position is returned.
+     * Finds the directions that are movable, excluding the position it last visited.
      * 
-     * @param possibleDirections - the possible directions that the robot can move.
-     * @return the first direction that is movable.
+     * @return a bit mask with bit i set if direction i is movable.
      */
-    private Position findFirstMovableDirection(Position[] possibleDirections) 
+    private int findMovableDirections() 
     {
-        Position position;
-        int index = 0;
-    
-        do {
-            position = possibleDirections[index];
-            index++;
-        } while ((!maze.isMovable(position) || position.equals(previousPosition)) 
-                     && index < possibleDirections.length);
-    
-        if (!maze.isMovable(position)) {
-            position = previousPosition;
+        int directions = 0;
+
+        for (int i = 0 ; i < 4 ; i++) {
+            int nextX = x + DX[i];
+            int nextY = y + DY[i];
+
+            if (maze.isMovable(nextX, nextY) && (nextX != previousX || nextY != previousY)) {
+                directions |= 1 << i;
+            }
         }
 
-        return position;
+        return directions;
     }
     
     /**
-     * Sets the robot's position to the given 'position' inside the maze.
+     * Sets the robot's position to {@code (x, y)} inside the maze.
      * 
-     * @param position the position to move the robot to.
+     * @param x the x-coordinate to move the robot to.
+     * @param y the y-coordinate to move the robot to.
      */
-    private void setPosition(Position position) 
+    private void setPosition(int x, int y) 
     {
-        this.previousPosition = this.position;
-        this.position = position;
-  
+        this.previousX = this.x;
+        this.previousY = this.y;
+        this.x = x;
+        this.y = y;
     }
 
     /**
@@ -94,7 +188,7 @@ public class RandomRobot implements Robot
      */
     public Position getPosition()
     {
-        return position;
+        return new Position(x, y);
     }
 
     /**
@@ -104,6 +198,6 @@ public class RandomRobot implements Robot
      */
     public boolean hasReachedGoal()
     {
-        return maze.isGoal(position);
+        return maze.isGoal(x, y);
     }
 }
\ No newline at end of file
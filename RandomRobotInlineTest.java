@@ -0,0 +1,42 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Scanner;
+
+import model.Maze;
+import model.RandomRobot;
+
+/**
+ * JUnit test class for the {@link model.RandomRobot} class.
+ * Tests the robot in mazes given as text, so that no maze files are needed.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class RandomRobotInlineTest {
+
+    /**
+     * Test if two robots with the same seed take the same walk through a maze,
+     * and if the walk reaches the goal.
+     */
+    @Test
+    void seededWalkTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S    *\n* * * *\n*     *\n*** *G*\n*******"));
+        RandomRobot first = new RandomRobot(maze, 42);
+        RandomRobot second = new RandomRobot(maze, 42);
+
+        for (int i = 0 ; i < 1000 ; i++) {
+            first.move();
+            second.move();
+            assertEquals(first.getPosition(), second.getPosition());
+            assertTrue(maze.isMovable(first.getPosition()));
+        }
+
+        RandomRobot robot = new RandomRobot(maze, 7);
+        while (!robot.hasReachedGoal()) {
+            robot.move();
+        }
+        assertTrue(maze.isGoal(robot.getPosition()));
+    }
+}
@@ -0,0 +1,292 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A swarm of random walkers that move through a maze like {@link RandomRobot},
+ * stored as parallel primitive arrays instead of one object per walker, for
+ * estimating how many steps a random walk needs to reach a goal.
+ *
+ * Every walker is described by its packed tile index, the direction back to
+ * the tile it came from and the state of its own random generator, which
+ * is a SplitMix64 sequence derived from the seed of the swarm and the number
+ * of the walker. The walkable directions out of every tile are looked up in
+ * a table with one byte per tile, so a step is a few array reads and no
+ * bounds checks. The walkers are split into blocks that are walked in
+ * parallel on a fork-join pool, and since every walker has its own random
+ * sequence the result does not depend on how the blocks are scheduled.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class RandomWalkerSwarm
+{
+    /*
+     * The step along each axis for the directions East, North, South and West,
+     * so the opposite of direction d is 3 - d.
+     */
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    /*
+     * The direction back of a walker that has not moved yet, and the bit of a
+     * tile's moves that marks a goal.
+     */
+    private static final byte NO_DIRECTION = 4;
+    private static final int GOAL_BIT = 1 << 4;
+
+    private static final int BLOCK_SIZE = 4096;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final int columns;
+
+    /*
+     * For every tile, bit d is set if the neighbour in direction d is walkable,
+     * and GOAL_BIT is set if the tile is a goal.
+     */
+    private final byte[] moves;
+
+    private final int[] tiles;
+    private final byte[] backs;
+    private final long[] seeds;
+    private final long[] hitSteps;
+
+    private long stepsWalked = 0;
+
+    /**
+     * Constructs a swarm of {@code walkers} walkers at the start of the
+     * {@code maze}, that walk on the common fork-join pool.
+     *
+     * @param maze the maze that the walkers will traverse.
+     * @param walkers the number of walkers.
+     * @param seed the seed that the random sequences of the walkers are derived from.
+     */
+    public RandomWalkerSwarm(Maze maze, int walkers, long seed)
+    {
+        this(maze, walkers, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a swarm of {@code walkers} walkers at the start of the
+     * {@code maze}, that walk on the given {@code pool}.
+     *
+     * @param maze the maze that the walkers will traverse.
+     * @param walkers the number of walkers.
+     * @param seed the seed that the random sequences of the walkers are derived from.
+     * @param pool the pool to walk the blocks of walkers on.
+     */
+    public RandomWalkerSwarm(Maze maze, int walkers, long seed, ForkJoinPool pool)
+    {
+        if (walkers < 0) {
+            throw new IllegalArgumentException("walkers must not be negative: " + walkers);
+        }
+
+        this.pool = pool;
+        columns = maze.getNumColumns();
+
+        int rows = maze.getNumRows();
+        moves = new byte[rows * columns];
+        for (int tile = 0 ; tile < moves.length ; tile++) {
+            int y = tile / columns;
+            int x = tile - y * columns;
+            int bits = (maze.tile(tile) == Maze.GOAL) ? GOAL_BIT : 0;
+
+            for (int direction = 0 ; direction < 4 ; direction++) {
+                if (maze.isMovable(x + DX[direction], y + DY[direction])) {
+                    bits |= 1 << direction;
+                }
+            }
+            moves[tile] = (byte) bits;
+        }
+
+        int start = maze.startIndex();
+        tiles = new int[walkers];
+        Arrays.fill(tiles, start);
+        backs = new byte[walkers];
+        Arrays.fill(backs, NO_DIRECTION);
+        seeds = new long[walkers];
+        for (int walker = 0 ; walker < walkers ; walker++) {
+            seeds[walker] = mix(seed + walker * GOLDEN_GAMMA);
+        }
+
+        hitSteps = new long[walkers];
+        Arrays.fill(hitSteps, (moves[start] & GOAL_BIT) != 0 ? 0 : -1);
+    }
+
+    /**
+     * Moves every walker that has not yet reached a goal up to {@code steps}
+     * more steps. A walker stops when it reaches a goal, and the number of steps
+     * the swarm had walked at that moment is recorded as its hitting step.
+     *
+     * @param steps the largest number of steps to move every walker.
+     */
+    public void walk(long steps)
+    {
+        if (steps <= 0 || tiles.length == 0) {
+            return;
+        }
+
+        int blocks = (tiles.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        pool.invoke(new BlockTask(0, blocks, steps));
+        stepsWalked += steps;
+    }
+
+    /**
+     * Returns the number of steps the swarm has been walked so far.
+     *
+     * @return the total number of steps given to {@link #walk(long)}.
+     */
+    public long getStepsWalked()
+    {
+        return stepsWalked;
+    }
+
+    /**
+     * Returns the number of walkers in the swarm.
+     *
+     * @return the number of walkers.
+     */
+    public int getWalkerCount()
+    {
+        return tiles.length;
+    }
+
+    /**
+     * Returns the step at which the given {@code walker} first reached a goal.
+     *
+     * @param walker the number of the walker.
+     * @return the hitting step of the walker, or -1 if it has not reached a goal.
+     */
+    public long getHitStep(int walker)
+    {
+        return hitSteps[walker];
+    }
+
+    /**
+     * Returns the step at which every walker first reached a goal.
+     *
+     * @return a new array with the hitting step of every walker, -1 for walkers
+     *         that have not reached a goal.
+     */
+    public long[] getHitSteps()
+    {
+        return hitSteps.clone();
+    }
+
+    /**
+     * Returns the current position of the given {@code walker}.
+     *
+     * @param walker the number of the walker.
+     * @return the position of the walker.
+     */
+    public Position getPosition(int walker)
+    {
+        return new Position(tiles[walker] % columns, tiles[walker] / columns);
+    }
+
+    /*
+     * Moves the walkers in the range up to the given number of steps each. Every
+     * walker is moved all of its steps before the next, so its state stays in
+     * registers for the whole walk.
+     *
+     * @param from - the first walker to move.
+     * @param to - the walker after the last walker to move.
+     * @param steps - the largest number of steps to move every walker.
+     */
+    private void walkRange(int from, int to, long steps)
+    {
+        for (int walker = from ; walker < to ; walker++) {
+            if (hitSteps[walker] >= 0) {
+                continue;
+            }
+
+            int tile = tiles[walker];
+            int back = backs[walker];
+            long seed = seeds[walker];
+            long step = 0;
+
+            while (step < steps) {
+                int choices = moves[tile] & 15;
+                if (back != NO_DIRECTION) {
+                    choices &= ~(1 << back);
+                }
+
+                int direction;
+                if (choices == 0) {
+                    if (back == NO_DIRECTION) {
+                        break;
+                    }
+                    direction = back;
+                } else {
+                    seed += GOLDEN_GAMMA;
+                    int choice = (int) (((mix(seed) >>> 32) * Integer.bitCount(choices)) >>> 32);
+                    for (int i = 0 ; i < choice ; i++) {
+                        choices &= choices - 1;
+                    }
+                    direction = Integer.numberOfTrailingZeros(choices);
+                }
+
+                tile += DX[direction] + DY[direction] * columns;
+                back = 3 - direction;
+                step++;
+
+                if ((moves[tile] & GOAL_BIT) != 0) {
+                    hitSteps[walker] = stepsWalked + step;
+                    break;
+                }
+            }
+
+            tiles[walker] = tile;
+            backs[walker] = (byte) back;
+            seeds[walker] = seed;
+        }
+    }
+
+    /*
+     * Mixes a SplitMix64 state into a random value.
+     *
+     * @param z - the state to mix.
+     * @return the random value of the state.
+     */
+    private static long mix(long z)
+    {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+        return z ^ (z >>> 31);
+    }
+
+    /*
+     * Walks a range of blocks of walkers, splitting the range in halves until
+     * every block runs as its own task.
+     */
+    private final class BlockTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final long steps;
+
+        private BlockTask(int from, int to, long steps)
+        {
+            this.from = from;
+            this.to = to;
+            this.steps = steps;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (to - from == 1) {
+                walkRange(from * BLOCK_SIZE, Math.min(tiles.length, (from + 1) * BLOCK_SIZE), steps);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BlockTask(from, middle, steps), new BlockTask(middle, to, steps));
+            }
+        }
+    }
+}
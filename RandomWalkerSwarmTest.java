@@ -0,0 +1,117 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
+
+import model.Maze;
+import model.RandomRobot;
+import model.RandomWalkerSwarm;
+
+/**
+ * JUnit test class for the {@link model.RandomWalkerSwarm} class.
+ * Tests that the walkers move like random robots and report when they
+ * first reach a goal.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class RandomWalkerSwarmTest {
+
+    private static final String MAZE =
+        "*********\n" +
+        "*S      *\n" +
+        "* ***** *\n" +
+        "* *   * *\n" +
+        "*   *   *\n" +
+        "*** *****\n" +
+        "*G      *\n" +
+        "*********";
+
+    /**
+     * Test if walkers in a corridor, which never turn back, all reach the goal
+     * in as many steps as the corridor is long.
+     */
+    @Test
+    void corridorTest() {
+        Maze maze = new Maze(new Scanner("********\n*S    G*\n********"));
+        RandomWalkerSwarm swarm = new RandomWalkerSwarm(maze, 10000, 1);
+
+        swarm.walk(3);
+        for (int walker = 0 ; walker < swarm.getWalkerCount() ; walker++) {
+            assertEquals(-1, swarm.getHitStep(walker));
+            assertTrue(swarm.getPosition(walker).getX() == 4);
+        }
+
+        swarm.walk(100);
+        assertEquals(103, swarm.getStepsWalked());
+        for (long hitStep : swarm.getHitSteps()) {
+            assertEquals(5, hitStep);
+        }
+    }
+
+    /**
+     * Test if the hitting steps only depend on the seed, not on how the walks
+     * are split into calls or scheduled on the pool.
+     */
+    @Test
+    void reproducibleTest() {
+        Maze maze = new Maze(new Scanner(MAZE));
+        ForkJoinPool single = new ForkJoinPool(1);
+
+        try {
+            RandomWalkerSwarm whole = new RandomWalkerSwarm(maze, 20000, 42);
+            RandomWalkerSwarm pieces = new RandomWalkerSwarm(maze, 20000, 42, single);
+
+            whole.walk(1000);
+            for (int i = 0 ; i < 10 ; i++) {
+                pieces.walk(100);
+            }
+
+            assertArrayEquals(whole.getHitSteps(), pieces.getHitSteps());
+            assertTrue(whole.getHitSteps()[0] > 0);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    /**
+     * Test if the mean hitting step of the swarm is close to the mean number of
+     * steps random robots need to reach the goal.
+     */
+    @Test
+    void meanHittingStepTest() {
+        Maze maze = new Maze(new Scanner(MAZE));
+        int walkers = 20000;
+
+        RandomWalkerSwarm swarm = new RandomWalkerSwarm(maze, walkers, 7);
+        swarm.walk(1000000);
+
+        double swarmSteps = 0;
+        double robotSteps = 0;
+        for (int walker = 0 ; walker < walkers ; walker++) {
+            assertTrue(swarm.getHitStep(walker) > 0);
+            swarmSteps += swarm.getHitStep(walker);
+            robotSteps += new RandomRobot(maze, walker).moveUntilGoal(Long.MAX_VALUE);
+        }
+
+        assertTrue(Math.abs(swarmSteps / robotSteps - 1) < 0.05);
+    }
+
+    /**
+     * Test if walkers that can not move stay at the start and never reach the
+     * goal.
+     */
+    @Test
+    void stuckTest() {
+        Maze enclosed = new Maze(new Scanner("***\n*S*\n***\nG"));
+        RandomWalkerSwarm stuck = new RandomWalkerSwarm(enclosed, 3, 0);
+
+        stuck.walk(100);
+        assertArrayEquals(new long[] {-1, -1, -1}, stuck.getHitSteps());
+        assertEquals(enclosed.getStart(), stuck.getPosition(2));
+    }
+}
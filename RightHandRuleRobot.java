@@ -1,21 +1,70 @@
 package model;
 
-import java.util.HashMap;
-
 /**
  * A class representing a Robot that traverses a maze by always moveing
  * like he has his hand on the right side of the wall inside the maze.
  * 
+ * The orientation is kept as an integer direction, and turning and
+ * stepping are looked up in precomputed tables, so a step does not
+ * allocate any objects.
+ *
+ * A robot that follows a wall which does not lead to the goal, like
+ * the wall of an island in an open room, walks around it forever. The
+ * robot notices this with Brent's cycle detection on its position and
+ * orientation, which uses constant memory and finds a loop within a
+ * small multiple of the steps walked before the loop closed. The bulk
+ * methods then stop early, see {@link #isLooping()}.
+ *
+ * In Pledge mode the robot instead heads North whenever it can, and
+ * only follows a wall until it has turned back to face North as many
+ * times as it turned away. This lets it leave islands that a plain
+ * wall follower circles forever.
+ *
  * @author Daniel Hylander
  * @since 2023-04-27
  */
 public class RightHandRuleRobot implements Robot
 {
-    private Position position;
+    private static final int NORTH = 0;
+    private static final int EAST = 1;
+    private static final int SOUTH = 2;
+    private static final int WEST = 3;
+
+    /*
+     * The step along each axis when moving in a direction, indexed by direction.
+     */
+    private static final int[] DX = {0, 1, 0, -1};
+    private static final int[] DY = {-1, 0, 1, 0};
+
+    /*
+     * The direction after turning right or left, indexed by direction.
+     */
+    private static final int[] RIGHT = {EAST, SOUTH, WEST, NORTH};
+    private static final int[] LEFT = {WEST, NORTH, EAST, SOUTH};
+
+    private int x;
+    private int y;
+
+    private int orientation;
+
+    /*
+     * In Pledge mode, the number of right turns minus the number of left
+     * turns since the robot last headed North freely.
+     */
+    private final boolean pledge;
+    private int turns = 0;
 
-    private String orientation;
-    private String rightHandPosition;
+    /*
+     * The state of Brent's cycle detection: the position, orientation and
+     * turns saved at the last power of two steps, and the steps since then.
+     */
+    private long savedState;
+    private int savedTurns;
+    private long power = 1;
+    private long length = 0;
+    private boolean looping = false;
 
+    private final int columns;
     private Maze maze;
 
 
@@ -29,100 +78,208 @@ public class RightHandRuleRobot implements Robot
      */
     public RightHandRuleRobot(Maze maze)
     {
-        position = maze.getStart();
+        this(maze, false);
+    }
+
+
+    /**
+     * Constructus and initializes a robot inside the {@code maze} at
+     * the start position with the robot orientated to the North, that
+     * follows the Pledge algorithm if {@code pledge} is true and the
+     * right hand rule otherwise.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @param pledge true to head North and leave walls by the Pledge algorithm.
+     * @see Maze
+     */
+    public RightHandRuleRobot(Maze maze, boolean pledge)
+    {
+        Position start = maze.getStart();
+        x = start.getX();
+        y = start.getY();
 
-        orientation = "North";
-        rightHandPosition = "East";
+        orientation = NORTH;
 
         this.maze = maze;
+        this.pledge = pledge;
+
+        columns = maze.getNumColumns();
+        savedState = state();
     }
 
 
     /**
      * Moves one the robot step by turning it orientation till it finds 
-     * a walkable position in its forward orientation.
+     * a walkable position in its forward orientation. A robot that is
+     * walled in on all sides stays where it is.
      */
     public void move()
     {
-        HashMap<String, Position> possiblePositions = new HashMap<>();
-        possiblePositions.put("North", this.position.getPosToNorth());
-        possiblePositions.put("East", this.position.getPosToEast());
-        possiblePositions.put("South", this.position.getPosToSouth());
-        possiblePositions.put("West", this.position.getPosToWest());
-
-        if (rightHandPositionMovable(possiblePositions.get(rightHandPosition))) {
-            setOrientation(rightHandPosition);
-        }
-        else {
-            findFirstMovableOrientation(possiblePositions);
-        }
-        
-        this.position = possiblePositions.get(orientation);
+        step();
     }
     
 
     /**
-     * Checks if the position at the robots right hand is movable.
-     * 
-     * @param position the position at the robots right hand
-     * @return true if the position is movable; else false.
+     * Moves the robot up to {@code steps} steps, stopping early if it
+     * reaches the goal, is walled in or is walking in a loop.
+     *
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
      */
-    private boolean rightHandPositionMovable(Position position)
+    @Override
+    public int move(int steps)
     {
-        return maze.isMovable(position);
+        return (int) moveUntilGoal(steps);
     }
 
 
     /**
-     * Sets the robot's current orientation to the given 
-     * {@code orientation}, and uppdates its right hand position.
-     * 
-     * @param orientation orientation to turn the robot to.
+     * Moves the robot until it reaches the goal, moving at most
+     * {@code maxSteps} steps. The robot stops early if it is walled in
+     * or is walking in a loop that does not pass the goal.
+     *
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
      */
-    private void setOrientation(String orientation) 
+    @Override
+    public long moveUntilGoal(long maxSteps)
     {
-        switch (orientation) {
-            case "North":
-                rightHandPosition = "East";
-                break;
-            case "East":
-                rightHandPosition = "South";
-                break;
-            case "South":
-                rightHandPosition = "West";
-                break;
-            case "West":
-                rightHandPosition = "North";
-                break;
+        long steps = 0;
+
+        while (steps < maxSteps && !maze.isGoal(x, y) && !looping && step()) {
+            steps++;
         }
 
-        this.orientation = orientation;
+        return steps;
     }
-    
+
 
     /**
-     * Turns the robot tills the position infornt of it is movable.
-     * 
-     * @param possibleDirections the possible directions that the robot can move.
+     * Checks if the robot has been found to walk in a loop that never
+     * reaches the goal. Once a loop is found the bulk methods no longer
+     * move the robot, while {@link #move()} keeps walking the loop.
+     *
+     * @return true if the robot is walking in a loop; false otherwise.
+     */
+    public boolean isLooping()
+    {
+        return looping;
+    }
+
+
+    /**
+     * Moves the robot one step along the wall on its right hand side, or
+     * North if it is in Pledge mode and has no wall to follow.
+     *
+     * @return true if the robot moved; false if it is walled in.
+     */
+    private boolean step()
+    {
+        int rightHandPosition = RIGHT[orientation];
+
+        if (pledge && turns == 0) {
+            if (!findFirstMovableOrientation()) {
+                return false;
+            }
+        }
+        else if (maze.isMovable(x + DX[rightHandPosition], y + DY[rightHandPosition])) {
+            orientation = rightHandPosition;
+            if (pledge) {
+                turns++;
+            }
+        }
+        else if (!findFirstMovableOrientation()) {
+            return false;
+        }
+
+        x += DX[orientation];
+        y += DY[orientation];
+
+        if (!looping) {
+            detectLoop();
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Turns the robot left till the position infront of it is movable.
+     *
+     * @return true if a movable orientation was found; false if the robot is walled in.
      */
-    private void findFirstMovableOrientation(HashMap<String, Position> possibleDirections)
+    private boolean findFirstMovableOrientation()
     {
-        while (!maze.isMovable(possibleDirections.get(orientation))) {
-            switch (orientation) {
-                case "North":
-                    this.setOrientation("West");
-                    break;
-                case "East":
-                    this.setOrientation("North");
-                    break;
-                case "South":
-                    this.setOrientation("East");
-                    break;
-                case "West":
-                    this.setOrientation("South");
-                    break;
+        for (int leftTurns = 0 ; leftTurns < 4 ; leftTurns++) {
+            if (maze.isMovable(x + DX[orientation], y + DY[orientation])) {
+                if (pledge) {
+                    turns -= leftTurns;
+                }
+                return true;
             }
+            orientation = LEFT[orientation];
         }
+
+        return false;
+    }
+
+
+    /**
+     * Advances Brent's cycle detection by one step. The state is saved
+     * every time the number of steps since the last save reaches a power
+     * of two, and a loop is found when the robot returns to the saved
+     * state.
+     *
+     * While following a wall the robot does not look at its turns until
+     * they are back at zero, so returning to the saved position and
+     * orientation is also a loop if the turns have moved further away
+     * from zero. Detection restarts every time the turns reach zero,
+     * and every time the robot stands on a goal, so walking on past a goal
+     * along a loop through it is never taken for a loop without one.
+     */
+    private void detectLoop()
+    {
+        if (maze.isGoal(x, y)) {
+            savedState = -1;
+            power = 1;
+            length = 0;
+            return;
+        }
+
+        length++;
+
+        if (state() == savedState) {
+            int drift = turns - savedTurns;
+            if (drift == 0 || Integer.signum(drift) == Integer.signum(savedTurns)) {
+                looping = true;
+                return;
+            }
+        }
+
+        if (pledge && turns == 0) {
+            savedState = state();
+            savedTurns = 0;
+            power = 1;
+            length = 0;
+        }
+        else if (length == power) {
+            savedState = state();
+            savedTurns = turns;
+            power *= 2;
+            length = 0;
+        }
+    }
+
+
+    /**
+     * Returns the position and orientation of the robot packed into one
+     * number.
+     *
+     * @return the state of the robot.
+     */
+    private long state()
+    {
+        return ((long) (y * columns + x) << 2) | orientation;
     }
 
 
@@ -133,7 +290,7 @@ public class RightHandRuleRobot implements Robot
      */
     public Position getPosition()
     {
-        return position;
+        return new Position(x, y);
     }
 
 
@@ -144,6 +301,6 @@ public class RightHandRuleRobot implements Robot
      */
     public boolean hasReachedGoal()
     {
-        return maze.isGoal(position);
+        return maze.isGoal(x, y);
     }
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Scanner;
+
+import model.Maze;
+import model.Position;
+import model.RightHandRuleRobot;
+
+/**
+ * JUnit test class for the {@link model.RightHandRuleRobot} class.
+ * Tests the robot in mazes given as text, so that no maze files are needed.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class RightHandRuleRobotInlineTest {
+
+    private static final String ISLAND =
+        "***********\n" +
+        "*G        *\n" +
+        "*         *\n" +
+        "*   ***   *\n" +
+        "*   ***S  *\n" +
+        "*   ***   *\n" +
+        "*         *\n" +
+        "***********";
+
+    /**
+     * Test if the robot follows the right hand wall of a maze given as text
+     * to the goal, and stays in place when it is walled in.
+     */
+    @Test
+    void inlineMazeTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S    *\n* *** *\n*   *G*\n*******"));
+        RightHandRuleRobot robot = new RightHandRuleRobot(maze);
+
+        for (int i = 0 ; i < 6 ; i++) {
+            assertTrue(!robot.hasReachedGoal());
+            robot.move();
+        }
+        assertTrue(robot.hasReachedGoal());
+        assertTrue(robot.getPosition().equals(new Position(5, 3)));
+
+        Maze enclosed = new Maze(new Scanner("***\n*S*\n***\nG"));
+        RightHandRuleRobot stuck = new RightHandRuleRobot(enclosed);
+        stuck.move();
+        assertTrue(stuck.getPosition().equals(enclosed.getStart()));
+    }
+
+    /**
+     * Test if the robot notices that it is walking around an island that
+     * does not lead to the goal, and stops walking once it does.
+     */
+    @Test
+    void loopDetectionTest() {
+        Maze maze = new Maze(new Scanner(ISLAND));
+        RightHandRuleRobot robot = new RightHandRuleRobot(maze);
+
+        long steps = robot.moveUntilGoal(1000000);
+        assertTrue(robot.isLooping());
+        assertTrue(!robot.hasReachedGoal());
+        assertTrue(steps < 100);
+        assertTrue(robot.move(100) == 0);
+    }
+
+    /**
+     * Test if a robot that keeps moving after reaching the goal, along a loop
+     * that passes through the goal, is never found to be looping.
+     */
+    @Test
+    void loopThroughGoalTest() {
+        Maze maze = new Maze(new Scanner("*******\n*S   G*\n* *** *\n*     *\n*******"));
+        RightHandRuleRobot robot = new RightHandRuleRobot(maze);
+
+        int goalVisits = 0;
+        for (int i = 0 ; i < 1000 ; i++) {
+            robot.move();
+            if (robot.hasReachedGoal()) {
+                goalVisits++;
+            }
+            assertTrue(!robot.isLooping());
+        }
+        assertTrue(goalVisits > 1);
+    }
+
+    /**
+     * Test if a robot in Pledge mode leaves the island and reaches the goal,
+     * and that it notices when no goal can be reached by following walls.
+     */
+    @Test
+    void pledgeTest() {
+        Maze maze = new Maze(new Scanner(ISLAND));
+        RightHandRuleRobot robot = new RightHandRuleRobot(maze, true);
+
+        assertTrue(robot.moveUntilGoal(1000000) == 9);
+        assertTrue(robot.hasReachedGoal());
+        assertTrue(!robot.isLooping());
+
+        Maze closed = new Maze(new Scanner("*******\n*   *G*\n* S ***\n*     *\n*******"));
+        RightHandRuleRobot lost = new RightHandRuleRobot(closed, true);
+
+        assertTrue(lost.moveUntilGoal(1000000) < 100);
+        assertTrue(lost.isLooping());
+        assertTrue(!lost.hasReachedGoal());
+    }
+}
@@ -6,6 +6,11 @@ package model;
  * in this interface to move and track its position in a maze and 
  * determine if it has reached the end goal of the maze.
  * 
+ * The bulk methods {@link #move(int)} and {@link #moveUntilGoal(long)} 
+ * are implemented with {@link #move()}, robots override them with a 
+ * loop over their own state so that a long walk does not make a call 
+ * through this interface for every step.
+ * 
  * @author Daniel Hylander
  * @since 2023-04-27
  */
@@ -16,6 +21,38 @@ package model;
      */
     void move();
 
+    /**
+     * Moves the robot up to {@code steps} steps, stopping early if it 
+     * reaches the goal or can not move any further.
+     * 
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    default int move(int steps)
+    {
+        return (int) moveUntilGoal(steps);
+    }
+
+    /**
+     * Moves the robot until it reaches the goal, moving at most 
+     * {@code maxSteps} steps. A robot that can tell it will never reach 
+     * the goal may stop earlier.
+     * 
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    default long moveUntilGoal(long maxSteps)
+    {
+        long steps = 0;
+
+        while (steps < maxSteps && !hasReachedGoal()) {
+            move();
+            steps++;
+        }
+
+        return steps;
+    }
+
     /**
      * Returns the the robot's current position inside the maze.
      * 
@@ -0,0 +1,256 @@
+package model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Races several kinds of robots through the same maze at the same time,
+ * and reports the first one to reach a goal.
+ *
+ * Which robot is fastest depends on the shape of the maze, so racing them
+ * on idle cores gives the best of them without having to guess. Every
+ * robot walks in chunks of steps, each chunk a task of its own, and the
+ * robots check between the chunks if the race is over, so the losers
+ * stop soon after the winner has reached the goal. The race starts with
+ * {@link RandomRobot}, {@link MemoryRobot} and {@link RightHandRuleRobot},
+ * and more robots can be added with {@link #register(String, Function)}
+ * at any time. Each race runs the robots registered when it started.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class RobotRace
+{
+    /*
+     * The number of steps a robot moves between checks if the race is over.
+     */
+    private static final int STEPS_PER_CHECK = 4096;
+
+    private final ExecutorService executor;
+    private final Map<String, Function<Maze, ? extends Robot>> robots =
+        new LinkedHashMap<String, Function<Maze, ? extends Robot>>();
+
+    /**
+     * Constructs a race that runs on the common fork-join pool.
+     */
+    public RobotRace()
+    {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a race that runs on the given {@code executor}. If it has
+     * fewer threads than there are robots, the robots take turns one chunk
+     * of steps at a time. The race does not shut the executor down.
+     *
+     * @param executor the executor to run the robots on.
+     */
+    public RobotRace(ExecutorService executor)
+    {
+        this.executor = executor;
+
+        register("RandomRobot", RandomRobot::new);
+        register("MemoryRobot", MemoryRobot::new);
+        register("RightHandRuleRobot", RightHandRuleRobot::new);
+    }
+
+    /**
+     * Adds a kind of robot to the race, replacing any robot registered with the
+     * same {@code name}.
+     *
+     * @param name the name the robot is reported by if it wins.
+     * @param factory the factory creating the robot at the start of a maze.
+     */
+    public void register(String name, Function<Maze, ? extends Robot> factory)
+    {
+        synchronized (robots) {
+            robots.put(name, factory);
+        }
+    }
+
+    /**
+     * Races every registered robot through the {@code maze}, and returns as soon
+     * as one of them reaches a goal. The other robots are stopped at their next
+     * check. A robot that moves {@code maxSteps} steps, stops by itself or throws
+     * drops out of the race.
+     *
+     * @param maze the maze to race through.
+     * @param maxSteps the largest number of steps a robot may move.
+     * @return the first robot to reach a goal, or an empty optional if none did.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     * @throws IllegalStateException if the executor rejects a robot.
+     */
+    public Optional<RaceResult> race(Maze maze, long maxSteps) throws InterruptedException
+    {
+        Map<String, Function<Maze, ? extends Robot>> contestants;
+        synchronized (robots) {
+            contestants = new LinkedHashMap<String, Function<Maze, ? extends Robot>>(robots);
+        }
+        if (contestants.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Race race = new Race(maze, maxSteps, contestants.size());
+        for (Map.Entry<String, Function<Maze, ? extends Robot>> entry : contestants.entrySet()) {
+            try {
+                executor.execute(race.new Contestant(entry.getKey(), entry.getValue()));
+            } catch (RejectedExecutionException e) {
+                race.winner.completeExceptionally(e);
+                break;
+            }
+        }
+
+        try {
+            return Optional.ofNullable(race.winner.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("The race failed.", e.getCause());
+        } finally {
+            race.over = true;
+        }
+    }
+
+    /*
+     * The shared state of one race.
+     */
+    private final class Race
+    {
+        private final Maze maze;
+        private final long maxSteps;
+        private final long start = System.nanoTime();
+
+        private final CompletableFuture<RaceResult> winner = new CompletableFuture<RaceResult>();
+        private final AtomicInteger running;
+        private volatile boolean over = false;
+
+        private Race(Maze maze, long maxSteps, int contestants)
+        {
+            this.maze = maze;
+            this.maxSteps = maxSteps;
+            running = new AtomicInteger(contestants);
+        }
+
+        /*
+         * One robot in the race. Each run moves the robot one chunk of steps, and
+         * then puts the contestant back on the executor, so that all robots take
+         * turns even when there are fewer threads than robots.
+         */
+        private final class Contestant implements Runnable
+        {
+            private final String name;
+            private final Function<Maze, ? extends Robot> factory;
+
+            private Robot robot;
+            private long steps = 0;
+
+            private Contestant(String name, Function<Maze, ? extends Robot> factory)
+            {
+                this.name = name;
+                this.factory = factory;
+            }
+
+            @Override
+            public void run()
+            {
+                if (over) {
+                    dropOut();
+                    return;
+                }
+
+                try {
+                    if (robot == null) {
+                        robot = factory.apply(maze);
+                    }
+
+                    int chunk = (int) Math.min(STEPS_PER_CHECK, maxSteps - steps);
+                    int moved = robot.hasReachedGoal() ? 0 : robot.move(chunk);
+                    steps += moved;
+
+                    if (robot.hasReachedGoal()) {
+                        if (winner.complete(new RaceResult(name, steps, System.nanoTime() - start))) {
+                            over = true;
+                        }
+                        dropOut();
+                    } else if (moved < chunk || steps >= maxSteps) {
+                        dropOut();
+                    } else {
+                        executor.execute(this);
+                    }
+                } catch (Throwable e) {
+                    dropOut();
+                }
+            }
+
+            /*
+             * Leaves the race, ending it without a winner if this was the last robot.
+             */
+            private void dropOut()
+            {
+                if (running.decrementAndGet() == 0) {
+                    winner.complete(null);
+                }
+            }
+        }
+    }
+
+    /**
+     * The robot that won a race.
+     */
+    public static final class RaceResult
+    {
+        private final String name;
+        private final long steps;
+        private final long nanos;
+
+        private RaceResult(String name, long steps, long nanos)
+        {
+            this.name = name;
+            this.steps = steps;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Returns the name the winning robot was registered with.
+         *
+         * @return the name of the winner.
+         */
+        public String getName()
+        {
+            return name;
+        }
+
+        /**
+         * Returns the number of steps the winner moved to reach the goal.
+         *
+         * @return the steps of the winner.
+         */
+        public long getSteps()
+        {
+            return steps;
+        }
+
+        /**
+         * Returns the wall clock time from the start of the race until the
+         * winner reached the goal.
+         *
+         * @return the time of the winner in nanoseconds.
+         */
+        public long getNanos()
+        {
+            return nanos;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "RaceResult[name=" + name + ", steps=" + steps + ", nanos=" + nanos + "]";
+        }
+    }
+}
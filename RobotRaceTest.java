@@ -0,0 +1,141 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import model.BreadthFirstRobot;
+import model.Maze;
+import model.Position;
+import model.Robot;
+import model.RobotRace;
+import model.RobotRace.RaceResult;
+
+/**
+ * JUnit test class for the {@link model.RobotRace} class.
+ * Tests that the first robot to reach the goal wins and the others stop.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class RobotRaceTest {
+
+    private static final String MAZE =
+        "*********\n" +
+        "*S      *\n" +
+        "* ***** *\n" +
+        "* *   * *\n" +
+        "*   *   *\n" +
+        "*** *****\n" +
+        "*G      *\n" +
+        "*********";
+
+    /**
+     * Test if a robot that walks the shortest path beats a robot that never
+     * reaches the goal, and that the loser is stopped once the race is over.
+     */
+    @Test
+    void firstRobotWinsTest() throws InterruptedException {
+        Maze maze = new Maze(new Scanner(MAZE));
+        AtomicLong loserSteps = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            RobotRace race = new RobotRace(executor);
+            race.register("RandomRobot", m -> new Wanderer(m, loserSteps));
+            race.register("MemoryRobot", m -> new Wanderer(m, loserSteps));
+            race.register("RightHandRuleRobot", m -> new Wanderer(m, loserSteps));
+            race.register("BreadthFirstRobot", BreadthFirstRobot::new);
+
+            Optional<RaceResult> result = race.race(maze, Long.MAX_VALUE);
+
+            assertTrue(result.isPresent());
+            assertEquals("BreadthFirstRobot", result.get().getName());
+            assertEquals(9, result.get().getSteps());
+            assertTrue(result.get().getNanos() >= 0);
+
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            assertTrue(executor.isTerminated());
+            assertTrue(loserSteps.get() < Long.MAX_VALUE / 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test if the default robots race on the common pool and that an empty
+     * result is returned when no robot can reach the goal.
+     */
+    @Test
+    void defaultRobotsTest() throws InterruptedException {
+        RobotRace race = new RobotRace();
+
+        Optional<RaceResult> result = race.race(new Maze(new Scanner(MAZE)), 1000000);
+        assertTrue(result.isPresent());
+        assertTrue(result.get().getSteps() > 0);
+
+        Maze closed = new Maze(new Scanner("*****\n*S* *\n*** *\n*G  *\n*****"));
+        assertFalse(race.race(closed, 100000).isPresent());
+    }
+
+    /**
+     * Test if a race on an executor that rejects the robots fails instead of
+     * waiting forever, and if a robot throwing an error only drops out.
+     */
+    @Test
+    void rejectedAndBrokenRobotsTest() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.shutdown();
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> new RobotRace(executor).race(new Maze(new Scanner(MAZE)), 1000));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+        RobotRace race = new RobotRace();
+        race.register("RandomRobot", m -> {
+            throw new StackOverflowError();
+        });
+        race.register("MemoryRobot", m -> {
+            throw new StackOverflowError();
+        });
+        race.register("RightHandRuleRobot", m -> {
+            throw new StackOverflowError();
+        });
+        assertFalse(race.race(new Maze(new Scanner(MAZE)), 1000).isPresent());
+    }
+
+    /*
+     * A robot that stays at the start forever, counting the steps it is asked to move.
+     */
+    private static final class Wanderer implements Robot {
+
+        private final Maze maze;
+        private final AtomicLong steps;
+
+        private Wanderer(Maze maze, AtomicLong steps) {
+            this.maze = maze;
+            this.steps = steps;
+        }
+
+        public void move() {
+            steps.incrementAndGet();
+        }
+
+        public Position getPosition() {
+            return maze.getStart();
+        }
+
+        public boolean hasReachedGoal() {
+            return false;
+        }
+    }
+}
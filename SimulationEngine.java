@@ -0,0 +1,170 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs many robots through many mazes at the same time, and collects the
+ * steps, outcome and time of every walk.
+ *
+ * Every pair of a maze and a robot factory is walked as its own task on an
+ * executor. The mazes are only read, so one maze is shared by all robots
+ * walking it. By default the tasks run on the common fork-join pool; any
+ * other executor can be given, such as one that starts a virtual thread per
+ * task. Each robot walks with {@link Robot#moveUntilGoal(long)}, so robots
+ * that override it run without a call per step.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class SimulationEngine
+{
+    /*
+     * The largest number of walks submitted to the executor and not yet taken
+     * from it.
+     */
+    private static final int MAX_WALKS_IN_FLIGHT = 1024;
+
+    private final ExecutorService executor;
+    private final long maxSteps;
+
+    /**
+     * Constructs an engine that runs on the common fork-join pool and lets every
+     * robot move at most {@code maxSteps} steps.
+     *
+     * @param maxSteps the largest number of steps a robot may move.
+     */
+    public SimulationEngine(long maxSteps)
+    {
+        this(ForkJoinPool.commonPool(), maxSteps);
+    }
+
+    /**
+     * Constructs an engine that runs on the given {@code executor} and lets every
+     * robot move at most {@code maxSteps} steps. The engine does not shut the
+     * executor down.
+     *
+     * @param executor the executor to run the walks on.
+     * @param maxSteps the largest number of steps a robot may move.
+     */
+    public SimulationEngine(ExecutorService executor, long maxSteps)
+    {
+        if (maxSteps < 0) {
+            throw new IllegalArgumentException("maxSteps must not be negative: " + maxSteps);
+        }
+
+        this.executor = executor;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Walks every maze with a robot from every factory, and waits for all walks
+     * to end. A robot that throws, even an {@link Error}, ends its walk with the
+     * outcome {@link SimulationResult.Outcome#FAILED} and does not stop the other
+     * walks.
+     *
+     * @param mazes the mazes to walk.
+     * @param robots the factories creating a robot at the start of a maze, such as
+     *               {@code MemoryRobot::new}.
+     * @return the results of the walks, ordered by maze and then by factory.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public List<SimulationResult> run(List<Maze> mazes,
+                                      List<? extends Function<Maze, ? extends Robot>> robots)
+        throws InterruptedException
+    {
+        int factories = robots.size();
+        SimulationResult[] results = new SimulationResult[Math.multiplyExact(mazes.size(), factories)];
+
+        run(mazes, robots, result -> {
+            results[result.getMazeIndex() * factories + result.getRobotIndex()] = result;
+        });
+
+        return new ArrayList<SimulationResult>(Arrays.asList(results));
+    }
+
+    /**
+     * Walks every maze with a robot from every factory, and hands each result to
+     * {@code results} on the calling thread as soon as its walk has ended. At most
+     * a fixed number of walks are submitted to the executor at a time, so memory
+     * stays bounded however many walks there are. A robot that throws, even an
+     * {@link Error}, ends its walk with the outcome
+     * {@link SimulationResult.Outcome#FAILED} and does not stop the other walks.
+     *
+     * @param mazes the mazes to walk.
+     * @param robots the factories creating a robot at the start of a maze, such as
+     *               {@code MemoryRobot::new}.
+     * @param results the consumer of the results, in the order the walks end.
+     * @throws InterruptedException if the thread is interrupted while waiting.
+     */
+    public void run(List<Maze> mazes, List<? extends Function<Maze, ? extends Robot>> robots,
+                    Consumer<? super SimulationResult> results)
+        throws InterruptedException
+    {
+        CompletionService<SimulationResult> walks =
+            new ExecutorCompletionService<SimulationResult>(executor);
+        int factories = robots.size();
+        long total = (long) mazes.size() * factories;
+        long submitted = 0;
+
+        for (long completed = 0 ; completed < total ; completed++) {
+            while (submitted < total && submitted - completed < MAX_WALKS_IN_FLIGHT) {
+                int mazeIndex = (int) (submitted / factories);
+                int robotIndex = (int) (submitted % factories);
+                walks.submit(() -> walk(mazes.get(mazeIndex), mazeIndex,
+                                        robots.get(robotIndex), robotIndex));
+                submitted++;
+            }
+
+            try {
+                results.accept(walks.take().get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("A walk failed outside of its robot.", e.getCause());
+            }
+        }
+    }
+
+    /*
+     * Creates a robot in the maze and lets it walk until it reaches a goal, stops,
+     * or has moved the largest number of steps.
+     *
+     * @param maze - the maze to walk.
+     * @param mazeIndex - the index of the maze.
+     * @param factory - the factory creating the robot.
+     * @param robotIndex - the index of the factory.
+     * @return the result of the walk.
+     */
+    private SimulationResult walk(Maze maze, int mazeIndex,
+                                  Function<Maze, ? extends Robot> factory, int robotIndex)
+    {
+        long start = System.nanoTime();
+
+        try {
+            Robot robot = factory.apply(maze);
+            long steps = robot.moveUntilGoal(maxSteps);
+
+            SimulationResult.Outcome outcome;
+            if (robot.hasReachedGoal()) {
+                outcome = SimulationResult.Outcome.REACHED_GOAL;
+            } else if (steps < maxSteps) {
+                outcome = SimulationResult.Outcome.GAVE_UP;
+            } else {
+                outcome = SimulationResult.Outcome.STEP_LIMIT;
+            }
+
+            return new SimulationResult(mazeIndex, robotIndex, steps, outcome,
+                                        System.nanoTime() - start, null);
+        } catch (Throwable e) {
+            return new SimulationResult(mazeIndex, robotIndex, 0, SimulationResult.Outcome.FAILED,
+                                        System.nanoTime() - start, e);
+        }
+    }
+}
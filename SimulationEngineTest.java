@@ -0,0 +1,132 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import model.BreadthFirstRobot;
+import model.Maze;
+import model.MemoryRobot;
+import model.RandomRobot;
+import model.Robot;
+import model.SimulationEngine;
+import model.SimulationResult;
+import model.SimulationResult.Outcome;
+
+/**
+ * JUnit test class for the {@link model.SimulationEngine} class.
+ * Tests that every pair of maze and robot is walked and reported in order.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class SimulationEngineTest {
+
+    private static final String MAZE =
+        "*********\n" +
+        "*S      *\n" +
+        "* ***** *\n" +
+        "* *   * *\n" +
+        "*   *   *\n" +
+        "*** *****\n" +
+        "*G      *\n" +
+        "*********";
+
+    /**
+     * Test if every maze is walked by every robot, with the results ordered by
+     * maze and then by robot, and with the steps a single robot would take.
+     */
+    @Test
+    void runAllPairsTest() throws InterruptedException {
+        Maze open = new Maze(new Scanner(MAZE));
+        Maze closed = new Maze(new Scanner("*****\n*S* *\n*** *\n*G  *\n*****"));
+        List<Function<Maze, Robot>> robots = List.of(
+            MemoryRobot::new,
+            BreadthFirstRobot::new,
+            maze -> {
+                throw new IllegalStateException("broken robot");
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<SimulationResult> results =
+                new SimulationEngine(executor, 1000).run(List.of(open, closed), robots);
+
+            assertEquals(6, results.size());
+            for (int i = 0 ; i < results.size() ; i++) {
+                assertEquals(i / 3, results.get(i).getMazeIndex());
+                assertEquals(i % 3, results.get(i).getRobotIndex());
+                assertTrue(results.get(i).getNanos() >= 0);
+            }
+
+            assertEquals(Outcome.REACHED_GOAL, results.get(0).getOutcome());
+            assertEquals(new MemoryRobot(open).moveUntilGoal(1000), results.get(0).getSteps());
+            assertNull(results.get(0).getError());
+            assertEquals(Outcome.REACHED_GOAL, results.get(1).getOutcome());
+            assertEquals(9, results.get(1).getSteps());
+            assertEquals(Outcome.FAILED, results.get(2).getOutcome());
+            assertEquals("broken robot", results.get(2).getError().getMessage());
+
+            assertEquals(Outcome.GAVE_UP, results.get(3).getOutcome());
+            assertEquals(Outcome.GAVE_UP, results.get(4).getOutcome());
+            assertEquals(0, results.get(4).getSteps());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test if a robot throwing an error fails only its own walk, and if every
+     * result is handed to the consumer exactly once.
+     */
+    @Test
+    void robotErrorTest() throws InterruptedException {
+        Maze maze = new Maze(new Scanner(MAZE));
+        List<Function<Maze, Robot>> robots = List.of(
+            m -> {
+                throw new StackOverflowError("deep robot");
+            },
+            BreadthFirstRobot::new);
+        List<Maze> mazes = Collections.nCopies(1500, maze);
+
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger reached = new AtomicInteger();
+        new SimulationEngine(1000).run(mazes, robots, result -> {
+            if (result.getOutcome() == Outcome.FAILED) {
+                assertEquals(0, result.getRobotIndex());
+                assertTrue(result.getError() instanceof StackOverflowError);
+                failed.incrementAndGet();
+            } else {
+                assertEquals(Outcome.REACHED_GOAL, result.getOutcome());
+                reached.incrementAndGet();
+            }
+        });
+
+        assertEquals(1500, failed.get());
+        assertEquals(1500, reached.get());
+    }
+
+    /**
+     * Test if a robot that does not reach the goal within the largest number of
+     * steps is stopped there, when running on the common pool.
+     */
+    @Test
+    void stepLimitTest() throws InterruptedException {
+        Maze maze = new Maze(new Scanner(MAZE));
+        List<Function<Maze, Robot>> robots = List.of(m -> new RandomRobot(m, 7));
+
+        List<SimulationResult> results = new SimulationEngine(3).run(List.of(maze), robots);
+
+        assertEquals(1, results.size());
+        assertEquals(Outcome.STEP_LIMIT, results.get(0).getOutcome());
+        assertEquals(3, results.get(0).getSteps());
+    }
+}
@@ -0,0 +1,122 @@
+package model;
+
+/**
+ * The result of one robot walking one maze in a {@link SimulationEngine}.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public final class SimulationResult
+{
+    /**
+     * How a simulated walk ended.
+     */
+    public enum Outcome
+    {
+        /** The robot reached a goal. */
+        REACHED_GOAL,
+        /** The robot stopped by itself before reaching a goal. */
+        GAVE_UP,
+        /** The robot used up its steps before reaching a goal. */
+        STEP_LIMIT,
+        /** The robot threw an exception or an error. */
+        FAILED
+    }
+
+    private final int mazeIndex;
+    private final int robotIndex;
+    private final long steps;
+    private final Outcome outcome;
+    private final long nanos;
+    private final Throwable error;
+
+    /**
+     * Constructs the result of a walk.
+     *
+     * @param mazeIndex the index of the maze that was walked.
+     * @param robotIndex the index of the robot factory that was used.
+     * @param steps the number of steps the robot moved.
+     * @param outcome how the walk ended.
+     * @param nanos the wall clock time of the walk in nanoseconds.
+     * @param error the exception thrown by the robot, or null if it threw none.
+     */
+    SimulationResult(int mazeIndex, int robotIndex, long steps, Outcome outcome, long nanos,
+                     Throwable error)
+    {
+        this.mazeIndex = mazeIndex;
+        this.robotIndex = robotIndex;
+        this.steps = steps;
+        this.outcome = outcome;
+        this.nanos = nanos;
+        this.error = error;
+    }
+
+    /**
+     * Returns the index of the maze that was walked, in the list given to the engine.
+     *
+     * @return the index of the maze.
+     */
+    public int getMazeIndex()
+    {
+        return mazeIndex;
+    }
+
+    /**
+     * Returns the index of the robot factory that was used, in the list given
+     * to the engine.
+     *
+     * @return the index of the robot factory.
+     */
+    public int getRobotIndex()
+    {
+        return robotIndex;
+    }
+
+    /**
+     * Returns the number of steps the robot moved.
+     *
+     * @return the number of steps.
+     */
+    public long getSteps()
+    {
+        return steps;
+    }
+
+    /**
+     * Returns how the walk ended.
+     *
+     * @return the outcome of the walk.
+     */
+    public Outcome getOutcome()
+    {
+        return outcome;
+    }
+
+    /**
+     * Returns the wall clock time of the walk, including creating the robot.
+     *
+     * @return the time of the walk in nanoseconds.
+     */
+    public long getNanos()
+    {
+        return nanos;
+    }
+
+    /**
+     * Returns the exception or error thrown by the robot if the outcome is
+     * {@link Outcome#FAILED}.
+     *
+     * @return the throwable thrown by the robot, or null if it threw none.
+     */
+    public Throwable getError()
+    {
+        return error;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "SimulationResult[maze=" + mazeIndex + ", robot=" + robotIndex
+            + ", steps=" + steps + ", outcome=" + outcome + ", nanos=" + nanos + "]";
+    }
+}
@@ -0,0 +1,184 @@
+package model;
+
+/**
+ * A class representing a Robot that traverses a maze with Tremaux's
+ * algorithm until it finds the goal.
+ *
+ * Every passage between two neighbouring tiles is marked each time the
+ * robot walks it, and no passage is walked more than twice. The robot
+ * prefers unmarked passages, turns back when a new passage leads it to
+ * a tile it has already visited, and never takes a passage marked twice.
+ * Like the depth first search of {@link MemoryRobot} this explores every
+ * reachable tile and ends, but it needs no stack of its way back: the
+ * marks are kept in one byte per tile, two bits for each direction.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class TremauxRobot implements Robot
+{
+    /*
+     * The directions are tried in the order East, North, South, West, so the
+     * opposite of direction d is 3 - d.
+     */
+    private static final int[] DX = {1, 0, 0, -1};
+    private static final int[] DY = {0, -1, 1, 0};
+
+    private int x;
+    private int y;
+
+    /*
+     * The direction back to the tile the robot came from, or -1 at the start.
+     */
+    private int back = -1;
+
+    private final byte[] marks;
+    private final int columns;
+
+    private Maze maze;
+
+    /**
+     * Constructs and initializes a robot inside the {@code maze} at the start
+     * position, with no passages marked.
+     *
+     * @param maze the maze that the robot will traverse.
+     * @see Maze
+     */
+    public TremauxRobot(Maze maze)
+    {
+        this.maze = maze;
+
+        Position start = maze.getStart();
+        x = start.getX();
+        y = start.getY();
+
+        columns = maze.getNumColumns();
+        marks = new byte[maze.getNumRows() * columns];
+    }
+
+    /**
+     * Moves the robot one step of Tremaux's algorithm. Once every passage it
+     * can reach has been walked twice the robot is back at the start, and
+     * stays there.
+     */
+    public void move()
+    {
+        step();
+    }
+
+    /**
+     * Moves the robot up to {@code steps} steps, stopping early if it reaches
+     * the goal or has explored every reachable passage.
+     *
+     * @param steps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public int move(int steps)
+    {
+        return (int) moveUntilGoal(steps);
+    }
+
+    /**
+     * Moves the robot until it reaches the goal, moving at most {@code maxSteps}
+     * steps. The robot stops early if it has explored every reachable passage
+     * without finding a goal.
+     *
+     * @param maxSteps the largest number of steps to move.
+     * @return the number of steps the robot moved.
+     */
+    @Override
+    public long moveUntilGoal(long maxSteps)
+    {
+        long steps = 0;
+
+        while (steps < maxSteps && !maze.isGoal(x, y) && step()) {
+            steps++;
+        }
+
+        return steps;
+    }
+
+    /*
+     * Chooses the next passage by Tremaux's rules and walks it. If the robot came
+     * through a new passage to a tile that was already visited, the passage closed
+     * a loop and the robot turns back. Otherwise it takes an unmarked passage if
+     * there is one, and else the passage marked once, which leads back the way the
+     * robot first came to the tile.
+     *
+     * @return true if the robot moved; false if every reachable passage is marked twice.
+     */
+    private boolean step()
+    {
+        int tile = y * columns + x;
+
+        if (back >= 0 && mark(tile, back) == 1 && (marks[tile] & 0xFF) != 1 << (2 * back)) {
+            walk(tile, back);
+            return true;
+        }
+
+        for (int wanted = 0 ; wanted < 2 ; wanted++) {
+            for (int direction = 0 ; direction < 4 ; direction++) {
+                if (mark(tile, direction) == wanted
+                    && maze.isMovable(x + DX[direction], y + DY[direction])) {
+                    walk(tile, direction);
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /*
+     * Marks the passage from the tile in the given direction at both of its
+     * ends, and moves the robot through it.
+     *
+     * @param tile - the packed tile index of the robot.
+     * @param direction - the direction to move in.
+     */
+    private void walk(int tile, int direction)
+    {
+        int next = tile + DX[direction] + DY[direction] * columns;
+
+        marks[tile] += 1 << (2 * direction);
+        marks[next] += 1 << (2 * (3 - direction));
+
+        x += DX[direction];
+        y += DY[direction];
+        back = 3 - direction;
+    }
+
+    /*
+     * Returns the number of times the passage from the tile in the given
+     * direction has been walked.
+     *
+     * @param tile - the packed tile index.
+     * @param direction - the direction of the passage.
+     * @return the mark of the passage, 0, 1 or 2.
+     */
+    private int mark(int tile, int direction)
+    {
+        return (marks[tile] >>> (2 * direction)) & 3;
+    }
+
+    /**
+     * Returns the the robot's current position inside the maze.
+     *
+     * @return the robots current position.
+     */
+    public Position getPosition()
+    {
+        return new Position(x, y);
+    }
+
+    /**
+     * Checks if the robot has reach the end of the maze.
+     *
+     * @return true if the robot has reach the end of the maze; false otherwise.
+     */
+    public boolean hasReachedGoal()
+    {
+        return maze.isGoal(x, y);
+    }
+}
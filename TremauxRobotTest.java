@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Random;
+import java.util.Scanner;
+
+import model.BreadthFirstRobot;
+import model.Maze;
+import model.Position;
+import model.TremauxRobot;
+
+/**
+ * JUnit test class for the {@link model.TremauxRobot} class.
+ * Tests that the robot finds the goal whenever it can be reached, and
+ * that it ends its search when it can not.
+ *
+ * @author Daniel Hylander
+ * @since 2026-10-17
+ */
+public class TremauxRobotTest {
+
+    /**
+     * Test if the robot only moves between neighbouring walkable positions,
+     * reaches the goal whenever it can be reached, and otherwise ends back at
+     * the start after walking every passage at most twice.
+     */
+    @Test
+    void exploreTest() {
+        Random random = new Random(23);
+
+        for (int i = 0 ; i < 300 ; i++) {
+            Maze maze = MazeTestSupport.randomMaze(random, 25, 15, 35, 1);
+            boolean reachable = !new BreadthFirstRobot(maze).getPath().isEmpty();
+            TremauxRobot robot = new TremauxRobot(maze);
+
+            long steps = 0;
+            while (!robot.hasReachedGoal() && steps < 4 * 2 * 15 * 25) {
+                Position previous = robot.getPosition();
+                if (robot.move(1) == 0) {
+                    break;
+                }
+                steps++;
+
+                MazeTestSupport.assertStep(maze, previous, robot.getPosition());
+            }
+
+            assertEquals(reachable, robot.hasReachedGoal());
+            if (!reachable) {
+                assertEquals(maze.getStart(), robot.getPosition());
+                assertEquals(0, robot.moveUntilGoal(100));
+            }
+        }
+    }
+
+    /**
+     * Test if the robot turns back when a loop leads it to a visited tile,
+     * instead of walking around the loop again.
+     */
+    @Test
+    void loopTest() {
+        Maze maze = new Maze(new Scanner("******\n*S   *\n* ** *\n*    *\n******\nG"));
+        TremauxRobot robot = new TremauxRobot(maze);
+
+        assertEquals(10, robot.move(10));
+        assertEquals(new Position(1, 1), robot.getPosition());
+        assertEquals(1, robot.move(1));
+        assertEquals(new Position(1, 2), robot.getPosition());
+
+        assertEquals(9, robot.moveUntilGoal(Long.MAX_VALUE));
+        assertEquals(maze.getStart(), robot.getPosition());
+        assertFalse(robot.hasReachedGoal());
+    }
+}